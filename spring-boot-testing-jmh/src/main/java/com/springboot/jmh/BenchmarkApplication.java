@@ -0,0 +1,35 @@
+package com.springboot.jmh;
+
+import com.springboot.SpringBootTestingApplication;
+import com.springboot.model.Employee;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// starts the application on the embedded database of the "jmh" profile
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(SpringBootTestingApplication.class)
+                .profiles("jmh")
+                .logStartupInfo(false)
+                .run();
+    }
+
+    static List<Employee> employees(String prefix, int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for(int i = 0; i < count; i++){
+            employees.add(Employee.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email(prefix + i + "@email.com")
+                    .build());
+        }
+        return employees;
+    }
+}
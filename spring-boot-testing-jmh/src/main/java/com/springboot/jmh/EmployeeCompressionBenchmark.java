@@ -0,0 +1,60 @@
+package com.springboot.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.springboot.dto.EmployeeView;
+import com.springboot.model.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// CPU cost of gzipping the employee listing the way Tomcat's server.compression does (GZIPOutputStream at the
+// default level), per format. The bytes on the wire with and without gzip are printed at setup.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeCompressionBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"10000"})
+    private int listSize;
+
+    private byte[] employeesBody;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+            case "smile" -> Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        List<Employee> employees = BenchmarkApplication.employees("bench", listSize);
+        for(int i = 0; i < employees.size(); i++){
+            employees.get(i).setId(i + 1L);
+        }
+        employeesBody = objectMapper.writeValueAsBytes(employees.stream().map(EmployeeView::of).toList());
+        int gzipped = gzipEmployees().length;
+        System.out.printf("%n%s body for %d employees: %d bytes, gzip %d bytes (%.1f%% saved)%n",
+                format, listSize, employeesBody.length, gzipped, 100.0 * (employeesBody.length - gzipped) / employeesBody.length);
+    }
+
+    @Benchmark
+    public byte[] gzipEmployees() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(employeesBody.length / 4);
+        try(GZIPOutputStream gzip = new GZIPOutputStream(out)){
+            gzip.write(employeesBody);
+        }
+        return out.toByteArray();
+    }
+}
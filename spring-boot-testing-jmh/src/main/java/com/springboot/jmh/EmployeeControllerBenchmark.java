@@ -0,0 +1,78 @@
+package com.springboot.jmh;
+
+import com.springboot.dto.EmployeeBatchResult;
+import com.springboot.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// the full DispatcherServlet path (mapping, argument resolution, message conversion) without a network hop
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeControllerBenchmark {
+
+    @Param({"1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private long[] ids;
+    private final AtomicLong created = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        context = BenchmarkApplication.start();
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        ids = context.getBean(EmployeeService.class)
+                .saveEmployees(BenchmarkApplication.employees("seed", rows)).stream()
+                .map(EmployeeBatchResult::getId)
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] getEmployeeById() throws Exception {
+        return mockMvc.perform(get("/api/employees/{id}", randomId()))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    @Benchmark
+    public byte[] getEmployeesPage() throws Exception {
+        return mockMvc.perform(get("/api/employees")
+                        .param("cursor", Long.toString(randomId()))
+                        .param("size", "20"))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    @Benchmark
+    public byte[] createEmployee() throws Exception {
+        long n = created.incrementAndGet();
+        return mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Created\",\"lastName\":\"Employee\",\"email\":\"created" + n + "@email.com\"}"))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,68 @@
+package com.springboot.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.springboot.dto.EmployeeView;
+import com.springboot.model.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Encode and decode time of the employee list body per negotiated format, built the way
+// HttpMessageConvertersConfig builds its mappers. The payload size of each format is printed at setup.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"100", "1000"})
+    private int listSize;
+
+    private ObjectWriter listWriter;
+    private ObjectReader listReader;
+
+    private List<EmployeeView> employees;
+    private byte[] employeesBody;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+            case "smile" -> Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, EmployeeView.class));
+        listReader = objectMapper.readerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, EmployeeView.class));
+
+        List<Employee> source = BenchmarkApplication.employees("bench", listSize);
+        for(int i = 0; i < source.size(); i++){
+            source.get(i).setId(i + 1L);
+        }
+        employees = source.stream().map(EmployeeView::of).toList();
+        employeesBody = listWriter.writeValueAsBytes(employees);
+        System.out.printf("%n%s body for %d employees: %d bytes (%.1f per employee)%n",
+                format, listSize, employeesBody.length, employeesBody.length / (double) listSize);
+    }
+
+    @Benchmark
+    public byte[] encodeEmployees() throws IOException {
+        return listWriter.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public List<EmployeeView> decodeEmployees() throws IOException {
+        return listReader.readValue(employeesBody);
+    }
+}
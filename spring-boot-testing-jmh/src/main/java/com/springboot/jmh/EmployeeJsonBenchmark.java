@@ -0,0 +1,72 @@
+package com.springboot.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.springboot.model.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson round trips of Employee with the ObjectMapper defaults Spring Boot applies
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeJsonBenchmark {
+
+    @Param({"100", "1000"})
+    private int listSize;
+
+    private ObjectWriter employeeWriter;
+    private ObjectReader employeeReader;
+    private ObjectWriter listWriter;
+    private ObjectReader listReader;
+
+    private Employee employee;
+    private List<Employee> employees;
+    private byte[] employeeJson;
+    private byte[] employeesJson;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        employeeWriter = objectMapper.writerFor(Employee.class);
+        employeeReader = objectMapper.readerFor(Employee.class);
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, Employee.class));
+        listReader = objectMapper.readerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, Employee.class));
+
+        employees = BenchmarkApplication.employees("bench", listSize);
+        for(int i = 0; i < employees.size(); i++){
+            employees.get(i).setId(i + 1L);
+        }
+        employee = employees.get(0);
+        employeeJson = employeeWriter.writeValueAsBytes(employee);
+        employeesJson = listWriter.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws IOException {
+        return employeeWriter.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public Employee deserializeEmployee() throws IOException {
+        return employeeReader.readValue(employeeJson);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployees() throws IOException {
+        return listWriter.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public List<Employee> deserializeEmployees() throws IOException {
+        return listReader.readValue(employeesJson);
+    }
+}
@@ -0,0 +1,58 @@
+package com.springboot.jmh;
+
+import com.springboot.dto.EmployeeView;
+import com.springboot.search.EmployeeSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// typeahead lookups against the in-memory index, the target is well under a millisecond at 1M employees
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Naveen", "Tony", "Mary", "John", "Priya", "Bruce", "Clark", "Diana"};
+    private static final String[] LAST_NAMES = {"Kumar", "Stark", "Watson", "Smith", "Sharma", "Wayne", "Kent", "Prince"};
+
+    @Param({"1000000"})
+    private int employeeCount;
+
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Setup
+    public void setup() {
+        employeeSearchIndex = new EmployeeSearchIndex();
+        // the numeric suffix spreads names over many distinct tokens, like real surnames
+        employeeSearchIndex.rebuild(LongStream.rangeClosed(1, employeeCount).mapToObj(id -> new EmployeeView(id,
+                FIRST_NAMES[(int) (id % FIRST_NAMES.length)] + (id % 1000),
+                LAST_NAMES[(int) (id / 7 % LAST_NAMES.length)] + (id % 997),
+                "employee" + id + "@email.com",
+                0L)));
+    }
+
+    @Benchmark
+    public List<EmployeeView> shortPrefix() {
+        return employeeSearchIndex.search("to", 10);
+    }
+
+    @Benchmark
+    public List<EmployeeView> longPrefix() {
+        return employeeSearchIndex.search("employee12345", 10);
+    }
+
+    @Benchmark
+    public List<EmployeeView> twoTerms() {
+        return employeeSearchIndex.search("tony1 stark", 10);
+    }
+
+    @Benchmark
+    public List<EmployeeView> noMatch() {
+        return employeeSearchIndex.search("zz", 10);
+    }
+}
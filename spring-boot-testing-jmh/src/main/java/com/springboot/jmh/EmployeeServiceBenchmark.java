@@ -0,0 +1,77 @@
+package com.springboot.jmh;
+
+import com.springboot.dto.EmployeeBatchResult;
+import com.springboot.dto.EmployeePage;
+import com.springboot.dto.EmployeeView;
+import com.springboot.model.Employee;
+import com.springboot.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// EmployeeServiceImpl through its Spring proxy (transactions, caching disabled) on the embedded database
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    @Param({"1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private long[] ids;
+    private final AtomicLong created = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        context = BenchmarkApplication.start();
+        employeeService = context.getBean(EmployeeService.class);
+        ids = employeeService.saveEmployees(BenchmarkApplication.employees("seed", rows)).stream()
+                .map(EmployeeBatchResult::getId)
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<EmployeeView> getEmployeeById() {
+        return employeeService.getEmployeeById(randomId());
+    }
+
+    @Benchmark
+    public EmployeePage getEmployeesPage() {
+        return employeeService.getEmployeesAfter(randomId(), 20);
+    }
+
+    @Benchmark
+    public List<EmployeeView> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public Employee saveEmployee() {
+        long n = created.incrementAndGet();
+        return employeeService.saveEmployee(Employee.builder()
+                .firstName("Created")
+                .lastName("Employee")
+                .email("created" + n + "@email.com")
+                .build());
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,38 @@
+package com.springboot.load;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+// ids of employees that currently exist, for picking get/update targets and taking delete targets
+final class IdPool {
+
+    private long[] ids = new long[1024];
+    private int size;
+
+    synchronized void add(long id) {
+        if(size == ids.length){
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    // -1 when empty
+    synchronized long pick() {
+        return size == 0 ? -1 : ids[ThreadLocalRandom.current().nextInt(size)];
+    }
+
+    // removes and returns a random id, -1 when empty
+    synchronized long take() {
+        if(size == 0){
+            return -1;
+        }
+        int index = ThreadLocalRandom.current().nextInt(size);
+        long id = ids[index];
+        ids[index] = ids[--size];
+        return id;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
@@ -0,0 +1,282 @@
+package com.springboot.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.SpringBootTestingApplication;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-model load generator: requests are started on a fixed schedule (load.rate per second) whatever
+// the server's response times, and each latency is measured from the scheduled start, not the actual send,
+// so a stalled server shows up in the percentiles instead of silently lowering the offered load
+// (coordinated omission). A request due while load.max-in-flight requests are outstanding waits for a free
+// sender, its latency still counts from the scheduled start. Settings are system properties, see the defaults in pom.xml.
+public class LoadGenerator {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+    private final double rate;
+    private final int maxInFlight;
+    private final Operation[] mix;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final IdPool ids = new IdPool();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Pending> waiting = new ConcurrentLinkedQueue<>();
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+
+    LoadGenerator(String baseUrl, double rate, int maxInFlight, Operation[] mix) {
+        this.baseUrl = baseUrl;
+        this.rate = rate;
+        this.maxInFlight = maxInFlight;
+        this.mix = mix;
+        for(Operation operation : Operation.values()){
+            stats.put(operation, new Stats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String target = System.getProperty("load.target", "");
+        double rate = Double.parseDouble(System.getProperty("load.rate", "200"));
+        int seconds = Integer.getInteger("load.seconds", 60);
+        int warmupSeconds = Integer.getInteger("load.warmup-seconds", 10);
+        int seed = Integer.getInteger("load.seed", 10_000);
+        int maxInFlight = Integer.getInteger("load.max-in-flight", 10_000);
+        Operation[] mix = parseMix(System.getProperty("load.mix", "create=10,get=50,list=20,update=15,delete=5"));
+
+        ConfigurableApplicationContext context = null;
+        if(target.isBlank()){
+            context = new SpringApplicationBuilder(SpringBootTestingApplication.class)
+                    .profiles("load")
+                    .logStartupInfo(false)
+                    .run();
+            target = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+        try {
+            LoadGenerator generator = new LoadGenerator(target + "/api/employees", rate, maxInFlight, mix);
+            generator.seed(seed);
+            generator.run(Duration.ofSeconds(warmupSeconds), Duration.ofSeconds(seconds));
+            generator.report(seconds, new File("target/load-report"));
+        } finally {
+            if(context != null){
+                context.close();
+            }
+        }
+    }
+
+    // one slot per weight unit, so picking an operation is a single random index
+    static Operation[] parseMix(String mix) {
+        Operation[] slots = new Operation[0];
+        for(String entry : mix.split(",")){
+            String[] parts = entry.trim().split("=");
+            Operation operation = Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+            int weight = Integer.parseInt(parts[1].trim());
+            int from = slots.length;
+            slots = Arrays.copyOf(slots, from + weight);
+            Arrays.fill(slots, from, slots.length, operation);
+        }
+        if(slots.length == 0){
+            throw new IllegalArgumentException("load.mix has no weights: " + mix);
+        }
+        return slots;
+    }
+
+    void seed(int count) throws IOException, InterruptedException {
+        for(int from = 0; from < count; from += 1000){
+            StringBuilder body = new StringBuilder("[");
+            for(int i = from; i < Math.min(count, from + 1000); i++){
+                body.append(i == from ? "" : ",").append(Operation.employeeJson("Seed", i));
+            }
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body.append("]").toString()))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            for(JsonNode result : objectMapper.readTree(response.body())){
+                if(result.hasNonNull("id")){
+                    ids.add(result.get("id").asLong());
+                }
+            }
+        }
+        // a re-run against a deployed instance finds the seed rows already there
+        if(ids.size() == 0 && count > 0){
+            throw new IllegalStateException("Seeding created no employees, clear the target database first");
+        }
+    }
+
+    void run(Duration warmup, Duration measurement) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + measurement.toNanos();
+
+        for(long i = 0; ; i++){
+            long intendedStart = start + (long) (i * 1_000_000_000L / rate);
+            if(intendedStart - end >= 0){
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if(wait > 0){
+                LockSupport.parkNanos(wait);
+            }
+            issue(mix[ThreadLocalRandom.current().nextInt(mix.length)], intendedStart, intendedStart >= measureFrom);
+        }
+
+        // let the last requests finish, whatever is still outstanding afterwards is reported as in flight
+        long drainUntil = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while((inFlight.get() > 0 || !waiting.isEmpty()) && System.nanoTime() < drainUntil){
+            Thread.sleep(10);
+        }
+        // never sent: failed requests whose latency is the time they have waited so far
+        Pending pending;
+        while((pending = waiting.poll()) != null){
+            if(pending.measured()){
+                Stats operationStats = stats.get(pending.operation());
+                operationStats.latency.recordValue((System.nanoTime() - pending.intendedStart()) / 1000);
+                operationStats.errors.increment();
+            }
+        }
+    }
+
+    // a request that finds every sender busy is queued rather than dropped, leaving it out of the histogram
+    // would hide exactly the stalls an open model is meant to expose
+    private void issue(Operation operation, long intendedStart, boolean measured) {
+        if(!acquireSender()){
+            if(measured){
+                stats.get(operation).queued.increment();
+            }
+            waiting.add(new Pending(operation, intendedStart, measured));
+            // a sender may have been released between the failed acquire and the add
+            sendWaiting();
+            return;
+        }
+        send(operation, intendedStart, measured);
+    }
+
+    private boolean acquireSender() {
+        int current;
+        do {
+            current = inFlight.get();
+            if(current >= maxInFlight){
+                return false;
+            }
+        } while(!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void releaseSender() {
+        inFlight.decrementAndGet();
+        sendWaiting();
+    }
+
+    private void sendWaiting() {
+        while(!waiting.isEmpty() && acquireSender()){
+            Pending pending = waiting.poll();
+            if(pending == null){
+                inFlight.decrementAndGet();
+                return;
+            }
+            send(pending.operation(), pending.intendedStart(), pending.measured());
+        }
+    }
+
+    // the caller holds a sender slot, released when the response (or the failure) arrives
+    private void send(Operation operation, long intendedStart, boolean measured) {
+        long n = sequence.incrementAndGet();
+        HttpRequest request = operation.request(baseUrl, ids, n);
+        if(request == null){
+            operation = Operation.CREATE;
+            request = operation.request(baseUrl, ids, n);
+        }
+        Stats operationStats = stats.get(operation);
+
+        Operation issued = operation;
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, error) -> {
+            long latencyMicros = (System.nanoTime() - intendedStart) / 1000;
+            releaseSender();
+            boolean ok = error == null && response.statusCode() < 300;
+            if(ok && issued == Operation.CREATE){
+                createdId(response.body());
+            }
+            if(measured){
+                operationStats.latency.recordValue(latencyMicros);
+                if(!ok){
+                    operationStats.errors.increment();
+                }
+            }
+        });
+    }
+
+    private void createdId(byte[] body) {
+        try {
+            ids.add(objectMapper.readTree(body).get("id").asLong());
+        } catch (IOException e) {
+            // the create succeeded, only its id cannot be reused as a target
+        }
+    }
+
+    void report(int seconds, File histogramDirectory) throws IOException {
+        histogramDirectory.mkdirs();
+        System.out.printf("offered rate %.1f req/s for %d s, in flight at end %d%n", rate, seconds, inFlight.get());
+        System.out.printf("%-8s %9s %8s %8s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "queued", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for(Map.Entry<Operation, Stats> entry : stats.entrySet()){
+            Histogram histogram = entry.getValue().latency.getIntervalHistogram();
+            System.out.printf("%-8s %9d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey().key(),
+                    histogram.getTotalCount(),
+                    entry.getValue().errors.sum(),
+                    entry.getValue().queued.sum(),
+                    histogram.getTotalCount() / (double) seconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+
+            // full percentile distribution in milliseconds, loadable by the HdrHistogram plotter
+            try(PrintStream out = new PrintStream(new File(histogramDirectory, entry.getKey().key() + ".hgrm"))){
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static final class Stats {
+
+        // microseconds from scheduled start to response
+        private final Recorder latency = new Recorder(3);
+        private final LongAdder errors = new LongAdder();
+        // requests that had to wait for a free sender, the wait is part of their latency
+        private final LongAdder queued = new LongAdder();
+    }
+
+    private record Pending(Operation operation, long intendedStart, boolean measured) {
+    }
+}
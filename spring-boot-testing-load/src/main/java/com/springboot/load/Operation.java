@@ -0,0 +1,50 @@
+package com.springboot.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Locale;
+
+// the calls the generator mixes, each one request against /api/employees
+enum Operation {
+
+    CREATE, GET, LIST, UPDATE, DELETE;
+
+    String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    // null when there is no employee to target, the caller then creates one instead
+    HttpRequest request(String baseUrl, IdPool ids, long sequence) {
+        switch(this){
+            case CREATE:
+                return HttpRequest.newBuilder(URI.create(baseUrl))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(employeeJson("Load", sequence)))
+                        .build();
+            case GET: {
+                long id = ids.pick();
+                return id < 0 ? null : HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).build();
+            }
+            case LIST: {
+                long cursor = Math.max(0, ids.pick() - 1);
+                return HttpRequest.newBuilder(URI.create(baseUrl + "?size=20&cursor=" + cursor)).build();
+            }
+            case UPDATE: {
+                long id = ids.pick();
+                return id < 0 ? null : HttpRequest.newBuilder(URI.create(baseUrl + "/" + id))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(employeeJson("Updated", sequence)))
+                        .build();
+            }
+            default: {
+                long id = ids.take();
+                return id < 0 ? null : HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).DELETE().build();
+            }
+        }
+    }
+
+    static String employeeJson(String prefix, long sequence) {
+        return "{\"firstName\":\"" + prefix + sequence + "\",\"lastName\":\"Generator\",\"email\":\""
+                + prefix.toLowerCase(Locale.ROOT) + sequence + "@load.email.com\"}";
+    }
+}
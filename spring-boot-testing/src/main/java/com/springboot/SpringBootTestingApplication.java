@@ -2,8 +2,12 @@ package com.springboot;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
-@SpringBootApplication
+// the reactive API owns its R2DBC pool (see ReactiveEmployeeServiceImpl), Boot must not create a shared one
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
+@ConfigurationPropertiesScan
 public class SpringBootTestingApplication {
 
 	public static void main(String[] args) {
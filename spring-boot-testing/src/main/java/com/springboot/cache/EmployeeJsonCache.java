@@ -0,0 +1,51 @@
+package com.springboot.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.springboot.config.CacheConfig;
+import com.springboot.dto.EmployeeView;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+
+// UTF-8 JSON of single employees as served by GET /api/employees/{id} through EmployeeJsonHttpMessageConverter,
+// so a hot read is written out without going through Jackson. An entry only answers for the version it was encoded from, a stale one is replaced
+// on the next read even if its eviction was missed.
+@Component
+public class EmployeeJsonCache {
+
+    private ObjectWriter employeeWriter;
+    private Cache employeeJsonCache;
+
+    public EmployeeJsonCache(ObjectMapper objectMapper, CacheManager cacheManager) {
+        // the same ObjectMapper the message converters use, so the bytes match a normally rendered response
+        this.employeeWriter = objectMapper.writerFor(EmployeeView.class);
+        this.employeeJsonCache = cacheManager.getCache(CacheConfig.EMPLOYEE_JSON_CACHE);
+    }
+
+    // the returned array is shared with the cache and must not be modified
+    public byte[] toJson(EmployeeView employee) {
+        EncodedEmployee cached = employeeJsonCache != null
+                ? employeeJsonCache.get(employee.id(), EncodedEmployee.class) : null;
+        if(cached != null && cached.version() == employee.version()){
+            return cached.json();
+        }
+
+        byte[] json;
+        try {
+            json = employeeWriter.writeValueAsBytes(employee);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        if(employeeJsonCache != null){
+            employeeJsonCache.put(employee.id(), new EncodedEmployee(employee.version(), json));
+        }
+        return json;
+    }
+
+    private record EncodedEmployee(long version, byte[] json) {
+    }
+}
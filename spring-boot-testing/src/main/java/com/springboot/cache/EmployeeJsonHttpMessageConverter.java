@@ -0,0 +1,48 @@
+package com.springboot.cache;
+
+import com.springboot.dto.EmployeeView;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Writes a single EmployeeView as application/json from EmployeeJsonCache. It is registered ahead of the Jackson
+// converters, so content negotiation still decides the format: only a JSON response takes the cached bytes.
+public class EmployeeJsonHttpMessageConverter extends AbstractHttpMessageConverter<EmployeeView> {
+
+    private EmployeeJsonCache employeeJsonCache;
+
+    public EmployeeJsonHttpMessageConverter(EmployeeJsonCache employeeJsonCache) {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON);
+        this.employeeJsonCache = employeeJsonCache;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return EmployeeView.class == clazz;
+    }
+
+    // write-only, request bodies are read by Jackson
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected EmployeeView readInternal(Class<? extends EmployeeView> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("EmployeeView is not read by this converter", inputMessage);
+    }
+
+    // the length is set here rather than in getContentLength, so the bytes are looked up once per response;
+    // headers are only committed when the body is opened
+    @Override
+    protected void writeInternal(EmployeeView employee, HttpOutputMessage outputMessage) throws IOException {
+        byte[] json = employeeJsonCache.toJson(employee);
+        outputMessage.getHeaders().setContentLength(json.length);
+        outputMessage.getBody().write(json);
+    }
+}
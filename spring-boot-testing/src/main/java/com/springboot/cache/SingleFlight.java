@@ -0,0 +1,156 @@
+package com.springboot.cache;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Concurrent loads of the same key share one call: the first caller runs the loader on its own thread, callers
+// arriving while it runs wait for its result or its exception, for at most the given timeout. Nothing is kept
+// once the call finishes, caching the result is left to the caller: the caller that ran the loader publishes it,
+// unless a write invalidated the key meanwhile and the result may predate that write.
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    private Duration timeout;
+    private Counter coalesced;
+
+    public SingleFlight(Duration timeout, Counter coalesced) {
+        this.timeout = timeout;
+        this.coalesced = coalesced;
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        return load(key, loader, value -> {});
+    }
+
+    // publish runs on the loading caller only, atomically with respect to invalidate; waiters never publish
+    public V load(K key, Supplier<V> loader, Consumer<V> publish) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = calls.putIfAbsent(key, call);
+        if(running != null){
+            coalesced.increment();
+            return await(key, running);
+        }
+
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            calls.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+        finish(key, call, value, publish);
+        return value;
+    }
+
+    // many keys with one loader call: keys with a load already running join it, the others are loaded together and
+    // published one by one like load does. The loader gets the keys in the given order and must return a value for
+    // each of them. Running loads are only awaited after this call's own keys are done, so two overlapping
+    // loadAll calls never wait on each other.
+    public Map<K, V> loadAll(Collection<K> keys, Function<List<K>, Map<K, V>> loader, BiConsumer<K, V> publish) {
+        Map<K, CompletableFuture<V>> owned = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> joined = new LinkedHashMap<>();
+        for(K key : new LinkedHashSet<>(keys)){
+            CompletableFuture<V> call = new CompletableFuture<>();
+            CompletableFuture<V> running = calls.putIfAbsent(key, call);
+            if(running != null){
+                coalesced.increment();
+                joined.put(key, running);
+            } else {
+                owned.put(key, call);
+            }
+        }
+
+        Map<K, V> values = new HashMap<>();
+        if(!owned.isEmpty()){
+            Map<K, V> loaded;
+            try {
+                loaded = loader.apply(new ArrayList<>(owned.keySet()));
+            } catch (RuntimeException | Error e) {
+                owned.forEach((key, call) -> {
+                    calls.remove(key, call);
+                    call.completeExceptionally(e);
+                });
+                throw e;
+            }
+            owned.forEach((key, call) -> {
+                V value = loaded.get(key);
+                finish(key, call, value, v -> publish.accept(key, v));
+                values.put(key, value);
+            });
+        }
+        joined.forEach((key, running) -> values.put(key, await(key, running)));
+        return values;
+    }
+
+    // removed before completing, a caller arriving from now on starts a fresh load
+    private void finish(K key, CompletableFuture<V> call, V value, Consumer<V> publish) {
+        try {
+            calls.compute(key, (k, current) -> {
+                if(current != call){
+                    // invalidated while loading, the key may even belong to a newer load by now
+                    return current;
+                }
+                publish.accept(value);
+                return null;
+            });
+        } finally {
+            calls.remove(key, call);
+            call.complete(value);
+        }
+    }
+
+    // the running load of the key, if any, no longer publishes its result and callers arriving from now on
+    // start a fresh load; callers already waiting for it still get its result
+    public void invalidate(K key) {
+        calls.remove(key);
+    }
+
+    public void invalidateAll() {
+        calls.clear();
+    }
+
+    // number of keys with a load running
+    public int size() {
+        return calls.size();
+    }
+
+    // the loader's exception is rethrown as is, so callers handle a shared failure like their own
+    private V await(K key, CompletableFuture<V> running) {
+        try {
+            return running.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("Gave up waiting " + timeout.toMillis() + " ms for the running load of " + key, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryTimeoutException("Interrupted while waiting for the running load of " + key, e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException runtimeException){
+                throw runtimeException;
+            }
+            if(e.getCause() instanceof Error error){
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.springboot.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EMPLOYEES_CACHE = "employees";
+
+    // encoded JSON of the employees in EMPLOYEES_CACHE, evicted together with them
+    public static final String EMPLOYEE_JSON_CACHE = "employeeJson";
+
+    // puts and evictions made inside a transaction are applied after it commits: an eviction that ran before the
+    // commit would let a concurrent reader cache the old row again until the entry expires
+    @Bean
+    public static BeanPostProcessor transactionAwareCacheManagerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if(bean instanceof CacheManager cacheManager && !(bean instanceof TransactionAwareCacheManagerProxy)){
+                    return new TransactionAwareCacheManagerProxy(cacheManager);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.springboot.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "employee")
+public class EmployeeProperties {
+
+    // rows written per JDBC batch by the bulk endpoints, also the step of the chunk loops so it has to be positive
+    @Positive
+    private int batchSize = 50;
+
+    // CSV rows committed per transaction by the import
+    @Positive
+    private int importChunkSize = 1000;
+
+    // how long a getEmployeeById call waits for the same lookup already running on another thread
+    private Duration lookupWaitTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,33 @@
+package com.springboot.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.springboot.cache.EmployeeJsonCache;
+import com.springboot.cache.EmployeeJsonHttpMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+// Converter beans are picked up by Boot's HttpMessageConverters: the CBOR and Smile ones replace Spring's defaults
+// so they share the application's Jackson settings, and JSON stays first and therefore the default format.
+@Configuration
+public class HttpMessageConvertersConfig {
+
+    @Bean
+    public EmployeeJsonHttpMessageConverter employeeJsonHttpMessageConverter(EmployeeJsonCache employeeJsonCache){
+        return new EmployeeJsonHttpMessageConverter(employeeJsonCache);
+    }
+
+    // the builder bean is prototype scoped, every injection point gets its own copy
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder){
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder){
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,24 @@
+package com.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.reactive")
+public class ReactiveProperties {
+
+    // R2DBC URL of the same database spring.datasource points at
+    private String url = "r2dbc:mysql://localhost:3306/junit";
+
+    private String username;
+
+    private String password;
+
+    // Netty port of the reactive API, Tomcat keeps server.port for the blocking one
+    private int port = 8081;
+
+    // connections in the non-blocking pool, separate from the Hikari pool of the blocking stack
+    private int maxPoolSize = 20;
+}
@@ -0,0 +1,140 @@
+package com.springboot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.springboot.controller.ReactiveEmployeeHandler;
+import com.springboot.service.ReactiveEmployeeService;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+// Spring MVC and WebFlux cannot share a server: the reactive API runs on a Netty server of its own, next to Tomcat.
+// Its routes are turned straight into an HttpHandler, no @EnableWebFlux, which refuses to start in (or under) a
+// context where Spring MVC is configured. Netty writes are driven by socket writability, so demand reaches the
+// R2DBC Flux only as fast as the client reads.
+@Component
+public class ReactiveServer implements SmartLifecycle {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private ApplicationContext applicationContext;
+    private ReactiveProperties reactiveProperties;
+    private Environment environment;
+    private ReactiveEmployeeService reactiveEmployeeService;
+    private ObjectMapper objectMapper;
+    private ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+
+    private WebServer webServer;
+
+    public ReactiveServer(ApplicationContext applicationContext, ReactiveProperties reactiveProperties,
+                          Environment environment, ReactiveEmployeeService reactiveEmployeeService,
+                          ObjectMapper objectMapper, ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        this.applicationContext = applicationContext;
+        this.reactiveProperties = reactiveProperties;
+        this.environment = environment;
+        this.reactiveEmployeeService = reactiveEmployeeService;
+        this.objectMapper = objectMapper;
+        this.builders = builders;
+    }
+
+    public HttpHandler httpHandler(){
+        return RouterFunctions.toHttpHandler(new ReactiveEmployeeHandler(reactiveEmployeeService).routes(),
+                HandlerStrategies.builder().codecs(this::configureCodecs).build());
+    }
+
+    @Override
+    public synchronized void start(){
+        // a mock web environment (most tests) starts no server, neither does this
+        if(!(applicationContext instanceof WebServerApplicationContext)){
+            return;
+        }
+        webServer = new NettyReactiveWebServerFactory(port()).getWebServer(httpHandler());
+        webServer.start();
+    }
+
+    @Override
+    public synchronized void stop(){
+        if(webServer != null){
+            webServer.stop();
+            webServer = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning(){
+        return webServer != null;
+    }
+
+    // the port the reactive API listens on, -1 while it is not running
+    public synchronized int getPort(){
+        return webServer != null ? webServer.getPort() : -1;
+    }
+
+    // like Boot's management port: a random server port (RANDOM_PORT tests) makes this one random too,
+    // so cached test contexts never compete for the configured port
+    private int port(){
+        return environment.getProperty("server.port", Integer.class, 8080) == 0 ? 0 : reactiveProperties.getPort();
+    }
+
+    // the same Jackson settings and formats as the converters of the blocking API (HttpMessageConvertersConfig);
+    // the builder is prototype scoped, each getObject() is a fresh copy
+    private void configureCodecs(ServerCodecConfigurer configurer){
+        ObjectMapper cborMapper = builders.getObject().factory(new CBORFactory()).build();
+        ObjectMapper smileMapper = builders.getObject().factory(new SmileFactory()).build();
+        Jackson2JsonEncoder jsonEncoder = new Jackson2JsonEncoder(objectMapper);
+        configurer.defaultCodecs().jackson2JsonEncoder(jsonEncoder);
+        configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+        // without explicit mime types the binary codecs would claim application/json as well
+        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, SMILE));
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, SMILE));
+        // custom codecs come before the defaults: JSON goes first again so it stays the format for Accept: */*
+        configurer.customCodecs().register(jsonEncoder);
+        configurer.customCodecs().register(new SingleValueCborEncoder(cborMapper));
+        configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+    }
+
+    // Spring's CBOR encoder refuses every Publisher, a Mono included; the reactive API only writes single
+    // employees as CBOR (collections are JSON or NDJSON), so a Mono is encoded as the one value it holds
+    static class SingleValueCborEncoder extends Jackson2CborEncoder {
+
+        SingleValueCborEncoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                       MimeType mimeType, Map<String, Object> hints){
+            if(inputStream instanceof Mono<?> mono){
+                return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+            }
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.springboot.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+// sends read-only transactions to the replica and everything else to the primary,
+// must sit behind a LazyConnectionDataSourceProxy so the read-only flag is known when the connection is fetched;
+// a replica may lag behind, so reads whose results get cached run in read-write transactions on the primary
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration replicaBackoff;
+    private final Clock clock;
+
+    // while the replica is failing, reads go to the primary until this instant (epoch millis)
+    private volatile long replicaDownUntil;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration replicaBackoff) {
+        this(primary, replica, replicaBackoff, Clock.systemUTC());
+    }
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration replicaBackoff, Clock clock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaBackoff = replicaBackoff;
+        this.clock = clock;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if(TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && clock.millis() >= replicaDownUntil){
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if(determineCurrentLookupKey() != Route.REPLICA){
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            markReplicaDown(e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if(determineCurrentLookupKey() != Route.REPLICA){
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException e) {
+            markReplicaDown(e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    private void markReplicaDown(SQLException e) {
+        replicaDownUntil = clock.millis() + replicaBackoff.toMillis();
+        log.warn("Read replica unavailable, routing reads to the primary for {}", replicaBackoff, e);
+    }
+}
@@ -1,21 +1,43 @@
 package com.springboot.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.springboot.dto.EmployeeBatchResult;
+import com.springboot.dto.EmployeeLookupResult;
+import com.springboot.dto.EmployeePage;
+import com.springboot.dto.EmployeeView;
 import com.springboot.model.Employee;
 import com.springboot.service.EmployeeService;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/employees")
 public class EmployeeController {
 
+    // ids accepted by one multi-get, larger lists have to be split by the client
+    static final int MAX_LOOKUP_IDS = 10_000;
+
     private EmployeeService employeeService;
+    private ObjectMapper objectMapper;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, ObjectMapper objectMapper) {
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -24,37 +46,206 @@ public class EmployeeController {
         return employeeService.saveEmployee(employee);
     }
 
+    @PostMapping("/batch")
+    public List<EmployeeBatchResult> createEmployees(@RequestBody List<Employee> employees){
+        return employeeService.saveEmployees(employees);
+    }
+
     @GetMapping
-    public List<Employee> getAllEmployees(){
+    public List<EmployeeView> getAllEmployees(){
         return employeeService.getAllEmployees();
     }
 
+    @GetMapping(params = "size")
+    public EmployeePage getEmployeesPage(@RequestParam(value = "cursor", defaultValue = "0") long cursor,
+                                         @RequestParam("size") int size){
+        return employeeService.getEmployeesAfter(cursor, size);
+    }
+
+    // one call instead of one GET per id, results are in request order and misses are NOT_FOUND entries
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<EmployeeLookupResult>> getEmployeesByIds(@RequestParam("ids") List<Long> employeeIds){
+        return lookupEmployees(employeeIds);
+    }
+
+    // same as the GET, for id lists too long for a URL
+    @PostMapping("/lookup")
+    public ResponseEntity<List<EmployeeLookupResult>> lookupEmployees(@RequestBody List<Long> employeeIds){
+        if(employeeIds.size() > MAX_LOOKUP_IDS || employeeIds.contains(null)){
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(employeeService.getEmployeesByIds(employeeIds));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEmployees(){
+        ObjectWriter writer = objectMapper.writerFor(EmployeeView.class);
+        StreamingResponseBody body = outputStream -> employeeService.exportEmployees(employee -> {
+            try {
+                outputStream.write(writer.writeValueAsBytes(employee));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // typeahead on first name, last name and email prefixes, every word of q has to match
+    @GetMapping("/search")
+    public List<EmployeeView> searchEmployees(@RequestParam("q") String query,
+                                              @RequestParam(value = "limit", defaultValue = "10") int limit){
+        return employeeService.searchEmployees(query, limit);
+    }
+
+    // a matching If-None-Match is answered with 304 and no body by the ResponseEntity handling,
+    // a JSON body is the cached encoding of this version of the employee (EmployeeJsonHttpMessageConverter)
     @GetMapping("{id}")
-    public ResponseEntity<Employee> getEmployeeById(@PathVariable("id") long employeeId){
+    public ResponseEntity<EmployeeView> getEmployeeById(@PathVariable("id") long employeeId,
+                                                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept){
+     MediaType representation = representation(accept);
+     if(representation == null){
+         return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+     }
      return employeeService.getEmployeeById(employeeId)
-             .map(ResponseEntity::ok)
+             .map(employee -> ResponseEntity.ok()
+                     .contentType(representation)
+                     .eTag(eTag(employee.version(), representation))
+                     .varyBy(HttpHeaders.ACCEPT)
+                     .body(employee))
              .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @PutMapping("{id}")
     public ResponseEntity<Employee> updateEmployee(@PathVariable("id") long employeeId,
-                                                   @RequestBody Employee employee){
+                                                   @RequestBody Employee employee,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept){
+        MediaType representation = representation(accept);
+        if(representation == null){
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
+        Long expectedVersion = expectedVersion(ifMatch);
         return employeeService.getEmployeeById(employeeId)
                 .map(savedEmployee -> {
-                    savedEmployee.setFirstName(employee.getFirstName());
-                    savedEmployee.setLastName(employee.getLastName());
-                    savedEmployee.setEmail(employee.getEmail());
+                    if(expectedVersion != null && expectedVersion != savedEmployee.version()){
+                        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).<Employee>build();
+                    }
+                    Employee changedEmployee = Employee.builder()
+                            .id(savedEmployee.id())
+                            .firstName(employee.getFirstName())
+                            .lastName(employee.getLastName())
+                            .email(employee.getEmail())
+                            .version(savedEmployee.version())
+                            .build();
 
-                    Employee updatedEmployee = employeeService.updateEmployee(savedEmployee);
-                    return new ResponseEntity<>(updatedEmployee, HttpStatus.OK);
+                    Employee updatedEmployee = employeeService.updateEmployee(changedEmployee);
+                    return ResponseEntity.ok()
+                            .contentType(representation)
+                            .eTag(eTag(updatedEmployee.getVersion(), representation))
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .body(updatedEmployee);
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    // only the fields present in the body are changed, in one UPDATE without loading the employee
+    @PatchMapping("{id}")
+    public ResponseEntity<Void> patchEmployee(@PathVariable("id") long employeeId,
+                                              @RequestBody Employee employee,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        if(employeeService.patchEmployee(employeeId, expectedVersion(ifMatch), employee)){
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.notFound().build();
+    }
+
     @DeleteMapping("{id}")
     public ResponseEntity<String> deleteEmployee(@PathVariable("id") long employeeId){
-        employeeService.deleteEmployee(employeeId);
+        if(!employeeService.deleteEmployee(employeeId)){
+            return ResponseEntity.notFound().build();
+        }
         return new ResponseEntity<String>("Employee Deleted successfully..!",HttpStatus.OK);
     }
 
+    @DeleteMapping(params = "ids")
+    public Map<String, Integer> deleteEmployees(@RequestParam("ids") List<Long> employeeIds){
+        return Map.of("deleted", employeeService.deleteEmployees(employeeIds));
+    }
+
+    @DeleteMapping(params = "lastName")
+    public Map<String, Integer> deleteEmployeesByLastName(@RequestParam("lastName") String lastName){
+        return Map.of("deleted", employeeService.deleteEmployeesByLastName(lastName));
+    }
+
+    // a concurrent write changed the version between our read and our update
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleVersionConflict(OptimisticLockingFailureException e){
+        return new ResponseEntity<String>("Employee was modified by another request", HttpStatus.PRECONDITION_FAILED);
+    }
+
+    // the lookup this request was waiting on did not finish in time, the client may retry
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<String> handleLookupTimeout(QueryTimeoutException e){
+        return new ResponseEntity<String>("Employee lookup timed out", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    // representations of a single employee, in order of preference when the Accept header allows several
+    static final List<MediaType> REPRESENTATIONS = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR,
+            MediaType.valueOf("application/x-jackson-smile"));
+
+    // the representation the Accept header asks for, null when it allows none of them (406);
+    // set as the Content-Type, so the converter that writes the body and the ETag cannot disagree
+    static MediaType representation(String accept){
+        List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(accept == null || accept.isBlank()
+                    ? List.of(MediaType.ALL) : MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        // highest quality first, a concrete type before a wildcard of the same quality
+        acceptable.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed()
+                .thenComparing(MediaType::isWildcardType)
+                .thenComparing(MediaType::isWildcardSubtype));
+        for(MediaType mediaType : acceptable){
+            if(mediaType.getQualityValue() > 0){
+                for(MediaType representation : REPRESENTATIONS){
+                    if(mediaType.includes(representation)){
+                        return representation;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    // weak, the encodings of one version are equivalent but not byte-identical; the media type is part
+    // of the tag so a cache never answers a CBOR request with a 304 for the JSON body it holds
+    static String eTag(long version, MediaType representation){
+        return "W/\"" + version + "-" + representation.getSubtype() + "\"";
+    }
+
+    // version expected by an If-Match header, null when there is no precondition
+    static Long expectedVersion(String ifMatch){
+        if(ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")){
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if(tag.startsWith("W/")){
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+        // the version in front of the media type of the representation the tag was taken from
+        int dash = tag.indexOf('-');
+        try {
+            return Long.parseLong(dash >= 0 ? tag.substring(0, dash) : tag);
+        } catch (NumberFormatException e) {
+            // not one of our tags, so it can never match
+            return -1L;
+        }
+    }
+
 }
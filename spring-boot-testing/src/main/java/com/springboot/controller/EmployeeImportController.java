@@ -0,0 +1,64 @@
+package com.springboot.controller;
+
+import com.springboot.exception.ResourceNotFoundException;
+import com.springboot.model.EmployeeImportJob;
+import com.springboot.model.EmployeeImportReject;
+import com.springboot.service.EmployeeImportService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/employees/imports")
+public class EmployeeImportController {
+
+    private EmployeeImportService employeeImportService;
+
+    public EmployeeImportController(EmployeeImportService employeeImportService) {
+        this.employeeImportService = employeeImportService;
+    }
+
+    // the request body is read as a stream, so the upload is never buffered as a whole; the import itself runs
+    // in the background, the client polls the job the Location header points at
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<EmployeeImportJob> importEmployees(InputStream csv,
+                                                             @RequestParam(value = "resumeJobId", required = false) Long resumeJobId){
+        EmployeeImportJob job = employeeImportService.startImport(csv, resumeJobId);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    // status and counters of an import, updated after every committed chunk
+    @GetMapping("{id}")
+    public ResponseEntity<EmployeeImportJob> getImportJob(@PathVariable("id") long jobId){
+        return employeeImportService.getImportJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("{id}/rejects")
+    public List<EmployeeImportReject> getImportRejects(@PathVariable("id") long jobId,
+                                                       @RequestParam(value = "cursor", defaultValue = "0") long cursor,
+                                                       @RequestParam(value = "size", defaultValue = "100") int size){
+        return employeeImportService.getImportRejects(jobId, cursor, size);
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<String> handleUnknownJob(ResourceNotFoundException e){
+        return new ResponseEntity<String>(e.getMessage(), HttpStatus.NOT_FOUND);
+    }
+
+    // resuming a job that is still queued or running would import its rows twice
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleJobInProgress(IllegalStateException e){
+        return new ResponseEntity<String>(e.getMessage(), HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,123 @@
+package com.springboot.controller;
+
+import com.springboot.dto.EmployeeView;
+import com.springboot.model.Employee;
+import com.springboot.service.ReactiveEmployeeService;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.queryParam;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+// R2DBC-backed mirror of EmployeeController, served by WebFlux on Netty (see ReactiveServer). Not a @Controller:
+// the application context is a servlet one, these routes only exist on the Netty server
+public class ReactiveEmployeeHandler {
+
+    static final String EMPLOYEES = "/api/reactive/employees";
+
+    private ReactiveEmployeeService reactiveEmployeeService;
+
+    public ReactiveEmployeeHandler(ReactiveEmployeeService reactiveEmployeeService) {
+        this.reactiveEmployeeService = reactiveEmployeeService;
+    }
+
+    public RouterFunction<ServerResponse> routes(){
+        return route()
+                .POST(EMPLOYEES, this::createEmployee)
+                .GET(EMPLOYEES, queryParam("size", size -> true), this::getEmployeesPage)
+                .GET(EMPLOYEES, this::getAllEmployees)
+                .GET(EMPLOYEES + "/{id}", this::getEmployeeById)
+                .PUT(EMPLOYEES + "/{id}", this::updateEmployee)
+                .DELETE(EMPLOYEES + "/{id}", this::deleteEmployee)
+                .onError(OptimisticLockingFailureException.class, (e, request) ->
+                        ServerResponse.status(HttpStatus.PRECONDITION_FAILED)
+                                .bodyValue("Employee was modified by another request"))
+                .build();
+    }
+
+    public Mono<ServerResponse> createEmployee(ServerRequest request){
+        return request.bodyToMono(Employee.class)
+                .flatMap(reactiveEmployeeService::saveEmployee)
+                .flatMap(employee -> ServerResponse.status(HttpStatus.CREATED).bodyValue(employee));
+    }
+
+    // a JSON array or application/x-ndjson, one element per line; Netty asks the Flux for more rows only
+    // as the socket drains, so a slow client slows the read instead of piling rows up in memory
+    public Mono<ServerResponse> getAllEmployees(ServerRequest request){
+        MediaType mediaType = request.headers().accept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype)
+                ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok()
+                .contentType(mediaType)
+                .body(reactiveEmployeeService.getAllEmployees(), EmployeeView.class);
+    }
+
+    public Mono<ServerResponse> getEmployeesPage(ServerRequest request){
+        long cursor = request.queryParam("cursor").map(ReactiveEmployeeHandler::parseLong).orElse(0L);
+        int size = (int) parseLong(request.queryParam("size").orElseThrow());
+        return reactiveEmployeeService.getEmployeesAfter(cursor, size)
+                .flatMap(page -> ServerResponse.ok().bodyValue(page));
+    }
+
+    public Mono<ServerResponse> getEmployeeById(ServerRequest request){
+        MediaType representation = EmployeeController.representation(request.headers().firstHeader(HttpHeaders.ACCEPT));
+        if(representation == null){
+            return ServerResponse.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
+        return reactiveEmployeeService.getEmployeeById(employeeId(request))
+                .flatMap(employee -> {
+                    String eTag = EmployeeController.eTag(employee.version(), representation);
+                    // a 304 when If-None-Match still holds this version, empty otherwise
+                    return request.checkNotModified(eTag)
+                            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                                    .contentType(representation)
+                                    .eTag(eTag)
+                                    .varyBy(HttpHeaders.ACCEPT)
+                                    .bodyValue(employee)));
+                })
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    public Mono<ServerResponse> updateEmployee(ServerRequest request){
+        MediaType representation = EmployeeController.representation(request.headers().firstHeader(HttpHeaders.ACCEPT));
+        if(representation == null){
+            return ServerResponse.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
+        Long expectedVersion = EmployeeController.expectedVersion(request.headers().firstHeader(HttpHeaders.IF_MATCH));
+        return request.bodyToMono(Employee.class)
+                .flatMap(employee -> reactiveEmployeeService.updateEmployee(employeeId(request), expectedVersion, employee))
+                .flatMap(updatedEmployee -> ServerResponse.ok()
+                        .contentType(representation)
+                        .eTag(EmployeeController.eTag(updatedEmployee.version(), representation))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .bodyValue(updatedEmployee))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    public Mono<ServerResponse> deleteEmployee(ServerRequest request){
+        return reactiveEmployeeService.deleteEmployee(employeeId(request))
+                .flatMap(deleted -> deleted
+                        ? ServerResponse.ok().bodyValue("Employee Deleted successfully..!")
+                        : ServerResponse.notFound().build());
+    }
+
+    private static long employeeId(ServerRequest request){
+        return parseLong(request.pathVariable("id"));
+    }
+
+    // 400 like a malformed @PathVariable or @RequestParam on the MVC side, not a 500
+    private static long parseLong(String value){
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("Not a number: " + value);
+        }
+    }
+}
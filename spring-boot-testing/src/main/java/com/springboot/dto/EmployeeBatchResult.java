@@ -0,0 +1,22 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EmployeeBatchResult {
+
+    public enum Status {
+        CREATED, DUPLICATE, INVALID
+    }
+
+    // position of the employee in the request body
+    private int index;
+
+    private Status status;
+
+    private Long id;
+
+    private String message;
+}
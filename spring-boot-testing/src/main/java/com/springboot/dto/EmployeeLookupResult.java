@@ -0,0 +1,21 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EmployeeLookupResult {
+
+    public enum Status {
+        FOUND, NOT_FOUND
+    }
+
+    // requested id, results are in request order so a client can zip them with its ids
+    private long id;
+
+    private Status status;
+
+    // null when the employee does not exist
+    private EmployeeView employee;
+}
@@ -0,0 +1,16 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class EmployeePage {
+
+    private List<EmployeeView> content;
+
+    // id to pass as the cursor for the next page, null when this is the last page
+    private Long nextCursor;
+}
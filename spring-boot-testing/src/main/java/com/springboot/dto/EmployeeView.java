@@ -0,0 +1,12 @@
+package com.springboot.dto;
+
+import com.springboot.model.Employee;
+
+// read-only projection of an employee, selected directly into this record so no managed entity is created
+public record EmployeeView(long id, String firstName, String lastName, String email, long version) {
+
+    public static EmployeeView of(Employee employee) {
+        return new EmployeeView(employee.getId(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getVersion());
+    }
+}
@@ -2,6 +2,8 @@ package com.springboot.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Setter
 @Getter
@@ -9,11 +11,25 @@ import lombok.*;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "employees")
+@Table(name = Employee.TABLE,
+        uniqueConstraints = @UniqueConstraint(name = Employee.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        indexes = @Index(name = "idx_employees_last_first", columnList = "last_name, first_name"))
+// second-level cache, kept in sync by Hibernate on save and merge and dropped as a whole by bulk JPQL updates and deletes
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Employee.CACHE_REGION)
 public class Employee {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_employees_email";
+
+    public static final String CACHE_REGION = "employee";
+
+    // table name, the query space native queries are invalidated by
+    public static final String TABLE = "employees";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled sequence (a table on MySQL) so inserts can be JDBC batched, IDENTITY disables batching
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50)
     private long id;
 
     @Column(name = "first_name", nullable = false)
@@ -24,4 +40,8 @@ public class Employee {
 
     @Column(nullable = false)
     private String email;
+
+    // optimistic lock, also the version part of the employee's ETags
+    @Version
+    private long version;
 }
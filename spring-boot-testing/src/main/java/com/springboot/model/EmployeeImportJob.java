@@ -0,0 +1,46 @@
+package com.springboot.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "employee_import_jobs")
+public class EmployeeImportJob {
+
+    // length of the message column, longer failure messages are cut to fit
+    public static final int MESSAGE_LENGTH = 1000;
+
+    // QUEUED from the moment the upload is accepted until a worker thread picks the job up
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    // data rows committed so far (imported + rejected), a resumed import skips this many rows
+    @Column(name = "processed_rows", nullable = false)
+    private long processedRows;
+
+    @Column(name = "imported_rows", nullable = false)
+    private long importedRows;
+
+    @Column(name = "rejected_rows", nullable = false)
+    private long rejectedRows;
+
+    @Column(length = MESSAGE_LENGTH)
+    private String message;
+}
@@ -0,0 +1,29 @@
+package com.springboot.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "employee_import_rejects")
+public class EmployeeImportReject {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_import_rejects_seq")
+    @SequenceGenerator(name = "employee_import_rejects_seq", sequenceName = "employee_import_rejects_seq", allocationSize = 50)
+    private long id;
+
+    @Column(name = "job_id", nullable = false)
+    private long jobId;
+
+    // line of the CSV file, the header is line 1
+    @Column(name = "line_number", nullable = false)
+    private long lineNumber;
+
+    @Column(nullable = false, length = 1000)
+    private String reason;
+}
@@ -0,0 +1,7 @@
+package com.springboot.repository;
+
+import com.springboot.model.EmployeeImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EmployeeImportJobRepository extends JpaRepository<EmployeeImportJob,Long> {
+}
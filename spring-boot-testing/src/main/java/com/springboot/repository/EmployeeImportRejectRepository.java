@@ -0,0 +1,12 @@
+package com.springboot.repository;
+
+import com.springboot.model.EmployeeImportReject;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface EmployeeImportRejectRepository extends JpaRepository<EmployeeImportReject,Long> {
+
+    List<EmployeeImportReject> findByJobIdAndIdGreaterThanOrderByIdAsc(long jobId, long id, Limit limit);
+}
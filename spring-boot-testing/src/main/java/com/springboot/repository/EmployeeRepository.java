@@ -1,30 +1,97 @@
 package com.springboot.repository;
 
+import com.springboot.dto.EmployeeView;
 import com.springboot.model.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface EmployeeRepository extends JpaRepository<Employee,Long> {
 
+    // finder results are kept in the query cache as ids and the employees come from the second-level cache,
+    // so a repeated lookup runs no SQL until a write to the employees table makes the cached result stale
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Employee> findByEmail(String email);
 
+    // which of the given emails are already taken, in one round trip
+    @Query("select e.email from Employee e where e.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // read-only projections, they skip entity hydration and the persistence context snapshot
+    String EMPLOYEE_VIEW = "select new com.springboot.dto.EmployeeView(e.id, e.firstName, e.lastName, e.email, e.version) ";
+
+    @Query(EMPLOYEE_VIEW + "from Employee e")
+    List<EmployeeView> findAllViews();
+
+    @Query(EMPLOYEE_VIEW + "from Employee e where e.id = :id")
+    Optional<EmployeeView> findViewById(@Param("id") long id);
+
+    @Query(EMPLOYEE_VIEW + "from Employee e where e.id in :ids")
+    List<EmployeeView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // keyset pagination: seeks past the cursor on the primary key instead of using OFFSET
+    @Query(EMPLOYEE_VIEW + "from Employee e where e.id > :cursor order by e.id")
+    List<EmployeeView> findViewsAfter(@Param("cursor") long cursor, Pageable pageable);
+
+    // partial update in a single statement, a null argument leaves its column unchanged
+    // and a null version skips the optimistic lock check
+    @Modifying
+    @Query("update Employee e set e.firstName = coalesce(:firstName, e.firstName), " +
+            "e.lastName = coalesce(:lastName, e.lastName), e.email = coalesce(:email, e.email), " +
+            "e.version = e.version + 1 where e.id = :id and (:version is null or e.version = :version)")
+    int patchById(@Param("id") long id, @Param("version") Long version, @Param("firstName") String firstName,
+                  @Param("lastName") String lastName, @Param("email") String email);
+
+    // deletes without loading the entity first, the count tells whether the row existed
+    @Modifying
+    @Query("delete from Employee e where e.id = :id")
+    int deleteEmployeeById(@Param("id") long id);
+
+    @Modifying
+    @Query("delete from Employee e where e.id in :ids")
+    int deleteEmployeesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Employee e where e.lastName = :lastName")
+    int deleteEmployeesByLastName(@Param("lastName") String lastName);
+
+    // stream the whole table in fetch-size chunks instead of materialising it as one list
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(EMPLOYEE_VIEW + "from Employee e")
+    Stream<EmployeeView> streamAllViews();
+
 
     // define custom query using JPQL with index parameters
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("select e from Employee e where e.firstName =?1 and e.lastName = ?2")
     Employee findByJPQL(String firstName, String lastName);
 
     // define custom query using JPQL with named parameters
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("select e from Employee e where e.firstName =:firstName and e.lastName =:lastName")
     Employee findByJPQLNamedParams(@Param("firstName") String firstName, @Param("lastName") String lastName);
 
     // define custom query using native SQL with index params
+    // the table has to be named for native queries, otherwise Hibernate cannot tell which writes make the result stale
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = Employee.TABLE)})
     @Query(value = "select * from employees e where e.first_name =?1 and e.last_name =?2",nativeQuery = true)
     Employee findByNativeSQL(String firstName, String lastName);
 
     // define custom query using native SQL with Named params
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = Employee.TABLE)})
     @Query(value = "select * from employees e where e.first_name =:firstName and e.last_name =:lastName",nativeQuery = true)
     Employee findByNativeSQLNamedParams(@Param("firstName") String firstName, @Param("lastName") String lastName);
 }
@@ -0,0 +1,230 @@
+package com.springboot.search;
+
+import com.springboot.dto.EmployeeView;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// In-memory typeahead over first name, last name and email. Tokens are kept sorted in a skip list keyed
+// token + '\0' + id, so a prefix lookup is one O(log n) seek followed by a scan of at most a few entries
+// per result, and readers never lock. Writes are serialized and applied after the surrounding commit.
+// Each employee is stored with its normalized tokens, so filtering a candidate never re-tokenizes it.
+@Component
+public class EmployeeSearchIndex {
+
+    public static final int MAX_LIMIT = 100;
+
+    // index entries a multi-term search examines at most; a query broad enough to need more returns
+    // fewer results than exist rather than walking a large part of the index
+    static final int MAX_CANDIDATES = 10_000;
+
+    private static final char ID_SEPARATOR = '\0';
+
+    private final ConcurrentSkipListMap<String, Entry> tokens = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> employees = new ConcurrentHashMap<>();
+
+    // employees with a token starting with every query term, in token order
+    public List<EmployeeView> search(String query, int limit) {
+        List<String> terms = terms(query);
+        int maxResults = Math.max(1, Math.min(limit, MAX_LIMIT));
+        if(terms.isEmpty()){
+            return List.of();
+        }
+
+        // the term with the fewest index entries drives the scan, the others only filter
+        String driver = terms.size() == 1 ? terms.get(0) : mostSelective(terms);
+        Map<Long, EmployeeView> results = new LinkedHashMap<>();
+        int candidates = 0;
+        for(Entry entry : range(driver).values()){
+            if(++candidates > MAX_CANDIDATES){
+                break;
+            }
+            EmployeeView employee = entry.employee();
+            if(!results.containsKey(employee.id()) && (terms.size() == 1 || entry.matchesAll(terms))){
+                results.put(employee.id(), employee);
+                if(results.size() == maxResults){
+                    break;
+                }
+            }
+        }
+        return new ArrayList<>(results.values());
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    public void put(EmployeeView employee) {
+        afterCommit(() -> apply(employee));
+    }
+
+    // applies a patch the way EmployeeRepository.patchById does: null fields are left unchanged
+    public void patch(long id, String firstName, String lastName, String email) {
+        afterCommit(() -> {
+            Entry entry = employees.get(id);
+            if(entry != null){
+                EmployeeView employee = entry.employee();
+                apply(new EmployeeView(id,
+                        firstName != null ? firstName : employee.firstName(),
+                        lastName != null ? lastName : employee.lastName(),
+                        email != null ? email : employee.email(),
+                        employee.version() + 1));
+            }
+        });
+    }
+
+    public void remove(long id) {
+        afterCommit(() -> removeNow(id));
+    }
+
+    public void removeAll(Iterable<Long> ids) {
+        afterCommit(() -> ids.forEach(this::removeNow));
+    }
+
+    public void removeByLastName(String lastName) {
+        afterCommit(() -> {
+            List<String> lastNameTerms = terms(lastName);
+            if(lastNameTerms.isEmpty()){
+                return;
+            }
+            // exact token matches only, compared ignoring case like the default MySQL collation does
+            String token = lastNameTerms.get(0);
+            List<Long> ids = tokens.subMap(token + ID_SEPARATOR, token + (char) (ID_SEPARATOR + 1)).values().stream()
+                    .map(Entry::employee)
+                    .filter(employee -> employee.lastName().equalsIgnoreCase(lastName))
+                    .map(EmployeeView::id)
+                    .toList();
+            ids.forEach(this::removeNow);
+        });
+    }
+
+    // replaces the whole index, used for the startup build
+    public synchronized void rebuild(Stream<EmployeeView> employeeViews) {
+        tokens.clear();
+        employees.clear();
+        employeeViews.forEach(this::apply);
+    }
+
+    private synchronized void apply(EmployeeView employee) {
+        Entry entry = new Entry(employee, tokensOf(employee));
+        Entry previous = employees.put(employee.id(), entry);
+        Set<String> keys = entry.keys();
+        // add the new tokens before dropping the old ones, so a concurrent reader never misses the employee
+        for(String key : keys){
+            tokens.put(key, entry);
+        }
+        if(previous != null){
+            for(String key : previous.keys()){
+                if(!keys.contains(key)){
+                    tokens.remove(key);
+                }
+            }
+        }
+    }
+
+    private synchronized void removeNow(long id) {
+        Entry previous = employees.remove(id);
+        if(previous != null){
+            previous.keys().forEach(tokens::remove);
+        }
+    }
+
+    // index entries whose token starts with the term
+    private Map<String, Entry> range(String term) {
+        return tokens.subMap(term, true, term + Character.MAX_VALUE, false);
+    }
+
+    // counts each term's range only as far as the smallest one found so far, so picking the driver
+    // costs no more than scanning the winning range a few times over, and never more than MAX_CANDIDATES
+    private String mostSelective(List<String> terms) {
+        String driver = null;
+        int fewest = MAX_CANDIDATES + 1;
+        for(String term : terms){
+            int count = 0;
+            for(String ignored : range(term).keySet()){
+                if(++count >= fewest){
+                    break;
+                }
+            }
+            if(count < fewest){
+                driver = term;
+                fewest = count;
+            }
+        }
+        // every range is larger than the cap, any of them will do
+        return driver != null ? driver : terms.get(0);
+    }
+
+    // index changes made inside a transaction are only visible once it commits, a rollback leaves the index alone
+    private static void afterCommit(Runnable change) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+
+    // each name word on its own, so "mary jane" is found by "jane", and the whole email address
+    private static Set<String> tokensOf(EmployeeView employee) {
+        return Stream.of(terms(employee.firstName()), terms(employee.lastName()), terms(employee.email()))
+                .flatMap(List::stream)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static List<String> terms(String text) {
+        if(text == null || text.isBlank()){
+            return List.of();
+        }
+        return Arrays.stream(normalize(text).split("\\s+"))
+                .filter(term -> !term.isEmpty() && term.indexOf(ID_SEPARATOR) < 0)
+                .toList();
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // an employee with the tokens it was indexed under, computed once when it is put
+    private record Entry(EmployeeView employee, Set<String> tokens) {
+
+        boolean matchesAll(List<String> terms) {
+            for(String term : terms){
+                boolean matched = false;
+                for(String token : tokens){
+                    if(token.startsWith(term)){
+                        matched = true;
+                        break;
+                    }
+                }
+                if(!matched){
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Set<String> keys() {
+            return tokens.stream()
+                    .map(token -> token + ID_SEPARATOR + employee.id())
+                    .collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.springboot.search;
+
+import com.springboot.dto.EmployeeView;
+import com.springboot.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+// Builds the search index once all beans exist, which is before the web server starts taking requests,
+// so no write can slip in between the table scan and the first incremental update.
+@Slf4j
+@Component
+public class EmployeeSearchIndexLoader implements SmartInitializingSingleton {
+
+    private EmployeeRepository employeeRepository;
+    private EmployeeSearchIndex employeeSearchIndex;
+    private TransactionTemplate transactionTemplate;
+
+    public EmployeeSearchIndexLoader(EmployeeRepository employeeRepository, EmployeeSearchIndex employeeSearchIndex,
+                                     PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.employeeSearchIndex = employeeSearchIndex;
+        // not read-only, so with a replica configured the scan runs on the primary and replica lag cannot drop rows
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        // streamed in fetch-size chunks, so only the index itself has to fit in memory
+        transactionTemplate.executeWithoutResult(status -> {
+            try(Stream<EmployeeView> employees = employeeRepository.streamAllViews()){
+                employeeSearchIndex.rebuild(employees);
+            }
+        });
+        log.info("Indexed {} employees for search in {} ms", employeeSearchIndex.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
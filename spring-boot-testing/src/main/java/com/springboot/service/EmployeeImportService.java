@@ -0,0 +1,17 @@
+package com.springboot.service;
+
+import com.springboot.model.EmployeeImportJob;
+import com.springboot.model.EmployeeImportReject;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+public interface EmployeeImportService {
+
+    EmployeeImportJob startImport(InputStream csv, Long resumeJobId);
+    EmployeeImportJob importEmployees(InputStream csv, Long resumeJobId);
+    Optional<EmployeeImportJob> getImportJob(long jobId);
+    List<EmployeeImportReject> getImportRejects(long jobId, long cursor, int size);
+
+}
@@ -1,16 +1,29 @@
 package com.springboot.service;
 
+import com.springboot.dto.EmployeeBatchResult;
+import com.springboot.dto.EmployeeLookupResult;
+import com.springboot.dto.EmployeePage;
+import com.springboot.dto.EmployeeView;
 import com.springboot.model.Employee;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface EmployeeService {
 
     Employee saveEmployee(Employee employee);
-    List<Employee> getAllEmployees();
-    Optional<Employee> getEmployeeById(long id);
+    List<EmployeeBatchResult> saveEmployees(List<Employee> employees);
+    List<EmployeeView> getAllEmployees();
+    EmployeePage getEmployeesAfter(long cursor, int size);
+    void exportEmployees(Consumer<EmployeeView> consumer);
+    List<EmployeeView> searchEmployees(String query, int limit);
+    Optional<EmployeeView> getEmployeeById(long id);
+    List<EmployeeLookupResult> getEmployeesByIds(List<Long> ids);
     Employee updateEmployee(Employee updatedEmployee);
-    void deleteEmployee(long id);
+    boolean patchEmployee(long id, Long expectedVersion, Employee changes);
+    boolean deleteEmployee(long id);
+    int deleteEmployees(List<Long> ids);
+    int deleteEmployeesByLastName(String lastName);
 
 }
@@ -0,0 +1,18 @@
+package com.springboot.service;
+
+import com.springboot.dto.EmployeePage;
+import com.springboot.dto.EmployeeView;
+import com.springboot.model.Employee;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEmployeeService {
+
+    Mono<Employee> saveEmployee(Employee employee);
+    Flux<EmployeeView> getAllEmployees();
+    Mono<EmployeePage> getEmployeesAfter(long cursor, int size);
+    Mono<EmployeeView> getEmployeeById(long id);
+    Mono<EmployeeView> updateEmployee(long id, Long expectedVersion, Employee changes);
+    Mono<Boolean> deleteEmployee(long id);
+
+}
@@ -0,0 +1,356 @@
+package com.springboot.service.impl;
+
+import com.springboot.config.EmployeeProperties;
+import com.springboot.dto.EmployeeView;
+import com.springboot.exception.ResourceNotFoundException;
+import com.springboot.model.Employee;
+import com.springboot.model.EmployeeImportJob;
+import com.springboot.model.EmployeeImportReject;
+import com.springboot.repository.EmployeeImportJobRepository;
+import com.springboot.repository.EmployeeImportRejectRepository;
+import com.springboot.repository.EmployeeRepository;
+import com.springboot.search.EmployeeSearchIndex;
+import com.springboot.service.EmployeeImportService;
+import jakarta.persistence.EntityManager;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private EmployeeRepository employeeRepository;
+    private EmployeeImportJobRepository importJobRepository;
+    private EmployeeImportRejectRepository importRejectRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private EmployeeProperties employeeProperties;
+    private EmployeeSearchIndex employeeSearchIndex;
+    private TaskExecutor taskExecutor;
+
+    public EmployeeImportServiceImpl(EmployeeRepository employeeRepository,
+                                     EmployeeImportJobRepository importJobRepository,
+                                     EmployeeImportRejectRepository importRejectRepository,
+                                     EntityManager entityManager,
+                                     TransactionTemplate transactionTemplate,
+                                     EmployeeProperties employeeProperties,
+                                     EmployeeSearchIndex employeeSearchIndex,
+                                     TaskExecutor taskExecutor) {
+        this.employeeRepository = employeeRepository;
+        this.importJobRepository = importJobRepository;
+        this.importRejectRepository = importRejectRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.employeeProperties = employeeProperties;
+        this.employeeSearchIndex = employeeSearchIndex;
+        this.taskExecutor = taskExecutor;
+    }
+
+    // the job is saved before anything else so its id can be returned right away; the upload is spooled to a
+    // temporary file (it cannot outlive the request) and imported on the task executor as a resume of that job
+    @Override
+    public EmployeeImportJob startImport(InputStream csv, Long resumeJobId) {
+        EmployeeImportJob job = resumeJobId == null
+                ? EmployeeImportJob.builder().build()
+                : importJobRepository.findById(resumeJobId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Import job not found with id"+resumeJobId));
+        if(job.getStatus() == EmployeeImportJob.Status.QUEUED || job.getStatus() == EmployeeImportJob.Status.RUNNING){
+            throw new IllegalStateException("Import job "+job.getId()+" is still "+job.getStatus());
+        }
+        job.setStatus(EmployeeImportJob.Status.QUEUED);
+        job.setMessage(null);
+        job = importJobRepository.save(job);
+
+        Path upload = null;
+        try {
+            upload = Files.createTempFile("employee-import-" + job.getId() + "-", ".csv");
+            Files.copy(csv, upload, StandardCopyOption.REPLACE_EXISTING);
+            long jobId = job.getId();
+            Path spooled = upload;
+            taskExecutor.execute(() -> runImport(jobId, spooled));
+            return job;
+        } catch (IOException | RuntimeException e) {
+            deleteUpload(upload);
+            job.setStatus(EmployeeImportJob.Status.FAILED);
+            job.setMessage(failureMessage(e));
+            return importJobRepository.save(job);
+        }
+    }
+
+    private void runImport(long jobId, Path upload) {
+        try(InputStream csv = Files.newInputStream(upload)){
+            importEmployees(csv, jobId);
+        } catch (IOException | RuntimeException e) {
+            // nothing else is waiting on this thread, the job itself has to record why it stopped
+            importJobRepository.findById(jobId).ifPresent(job -> {
+                job.setStatus(EmployeeImportJob.Status.FAILED);
+                job.setMessage(failureMessage(e));
+                importJobRepository.save(job);
+            });
+        } finally {
+            deleteUpload(upload);
+        }
+    }
+
+    private static void deleteUpload(Path upload) {
+        if(upload == null){
+            return;
+        }
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException e) {
+            // the temporary directory is cleaned up eventually, a leftover file does not affect the job
+        }
+    }
+
+    // imports on the calling thread; a resumed job continues after the rows it has already committed
+    @Override
+    public EmployeeImportJob importEmployees(InputStream csv, Long resumeJobId) {
+        EmployeeImportJob job = resumeJobId == null
+                ? EmployeeImportJob.builder().build()
+                : importJobRepository.findById(resumeJobId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Import job not found with id"+resumeJobId));
+        job.setStatus(EmployeeImportJob.Status.RUNNING);
+        job.setMessage(null);
+        job = importJobRepository.save(job);
+
+        int chunkSize = employeeProperties.getImportChunkSize();
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))){
+            CsvRow header = readRow(reader, 0);
+            int[] columns = columnIndexes(header != null ? header.text() : null);
+
+            // rows committed by an earlier run of this job are skipped, not re-imported
+            long rowsToSkip = job.getProcessedRows();
+            List<CsvRow> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = header.lastLineNumber();
+            CsvRow row;
+            while((row = readRow(reader, lineNumber)) != null){
+                lineNumber = row.lastLineNumber();
+                if(row.text().isBlank()){
+                    continue;
+                }
+                if(rowsToSkip > 0){
+                    rowsToSkip--;
+                    continue;
+                }
+                chunk.add(row);
+                if(chunk.size() == chunkSize){
+                    job = commitChunk(job, chunk, columns);
+                    chunk.clear();
+                }
+            }
+            if(!chunk.isEmpty()){
+                job = commitChunk(job, chunk, columns);
+            }
+            job.setStatus(EmployeeImportJob.Status.COMPLETED);
+        } catch (IOException | RuntimeException e) {
+            // counters must reflect the last committed chunk so the job can be resumed from there
+            job = importJobRepository.findById(job.getId()).orElse(job);
+            job.setStatus(EmployeeImportJob.Status.FAILED);
+            job.setMessage(failureMessage(e));
+        }
+        return importJobRepository.save(job);
+    }
+
+    @Override
+    public Optional<EmployeeImportJob> getImportJob(long jobId) {
+        return importJobRepository.findById(jobId);
+    }
+
+    @Override
+    public List<EmployeeImportReject> getImportRejects(long jobId, long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, EmployeeServiceImpl.MAX_PAGE_SIZE));
+        return importRejectRepository.findByJobIdAndIdGreaterThanOrderByIdAsc(jobId, cursor, Limit.of(pageSize));
+    }
+
+    // the search index is only told about the chunk once its transaction has committed, a rolled back chunk leaves it alone
+    private EmployeeImportJob commitChunk(EmployeeImportJob job, List<CsvRow> rows, int[] columns) {
+        List<EmployeeView> imported = new ArrayList<>(rows.size());
+        EmployeeImportJob committedJob = transactionTemplate.execute(status -> {
+            List<Employee> employees = new ArrayList<>(rows.size());
+            List<Long> employeeLines = new ArrayList<>(rows.size());
+            List<EmployeeImportReject> rejects = new ArrayList<>();
+
+            for(CsvRow row : rows){
+                List<String> fields = parseLine(row.text());
+                String firstName = field(fields, columns[0]);
+                String lastName = field(fields, columns[1]);
+                String email = field(fields, columns[2]);
+                String reason = validate("firstName", firstName);
+                reason = reason != null ? reason : validate("lastName", lastName);
+                reason = reason != null ? reason : validate("email", email);
+                if(reason != null){
+                    rejects.add(reject(job, row.lineNumber(), reason));
+                    continue;
+                }
+                employees.add(Employee.builder()
+                        .firstName(firstName)
+                        .lastName(lastName)
+                        .email(email)
+                        .build());
+                employeeLines.add(row.lineNumber());
+            }
+
+            Set<String> existingEmails = employeeRepository.findExistingEmails(
+                    employees.stream().map(Employee::getEmail).toList());
+            Set<String> seenEmails = new HashSet<>();
+            List<Employee> toInsert = new ArrayList<>(employees.size());
+            for(int i = 0; i < employees.size(); i++){
+                Employee employee = employees.get(i);
+                if(existingEmails.contains(employee.getEmail()) || !seenEmails.add(employee.getEmail())){
+                    rejects.add(reject(job, employeeLines.get(i),
+                            "Employee already exists with given email"+employee.getEmail()));
+                } else {
+                    toInsert.add(employee);
+                }
+            }
+
+            employeeRepository.saveAll(toInsert);
+            toInsert.forEach(employee -> imported.add(EmployeeView.of(employee)));
+            importRejectRepository.saveAll(rejects);
+
+            job.setProcessedRows(job.getProcessedRows() + rows.size());
+            job.setImportedRows(job.getImportedRows() + toInsert.size());
+            job.setRejectedRows(job.getRejectedRows() + rejects.size());
+            EmployeeImportJob savedJob = importJobRepository.save(job);
+
+            entityManager.flush();
+            entityManager.clear();
+            return savedJob;
+        });
+        imported.forEach(employeeSearchIndex::put);
+        return committedJob;
+    }
+
+    // a driver message (a whole SQL statement, say) can exceed the column, and a failing save would leave the job RUNNING
+    private static String failureMessage(Exception e) {
+        String message = e.getMessage();
+        return message != null && message.length() > EmployeeImportJob.MESSAGE_LENGTH
+                ? message.substring(0, EmployeeImportJob.MESSAGE_LENGTH) : message;
+    }
+
+    private static EmployeeImportReject reject(EmployeeImportJob job, long lineNumber, String reason) {
+        return EmployeeImportReject.builder()
+                .jobId(job.getId())
+                .lineNumber(lineNumber)
+                .reason(reason)
+                .build();
+    }
+
+    // mirrors the nullable = false and default length constraints of the employees columns
+    private static String validate(String name, String value) {
+        if(value == null || value.isBlank()){
+            return name + " is required";
+        }
+        if(value.length() > MAX_COLUMN_LENGTH){
+            return name + " is longer than " + MAX_COLUMN_LENGTH + " characters";
+        }
+        return null;
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index).trim() : null;
+    }
+
+    // positions of the firstName, lastName and email columns, accepting first_name style headers as well
+    static int[] columnIndexes(String header) {
+        if(header == null){
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        int[] columns = {-1, -1, -1};
+        List<String> names = parseLine(header);
+        for(int i = 0; i < names.size(); i++){
+            switch (names.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT)) {
+                case "firstname" -> columns[0] = i;
+                case "lastname" -> columns[1] = i;
+                case "email" -> columns[2] = i;
+                default -> { }
+            }
+        }
+        if(columns[0] < 0 || columns[1] < 0 || columns[2] < 0){
+            throw new IllegalArgumentException("CSV header must contain firstName, lastName and email columns");
+        }
+        return columns;
+    }
+
+    // RFC 4180 style fields: comma separated, optionally double quoted with "" as an escaped quote,
+    // line breaks inside quotes are kept (the record is joined by readRow)
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for(int i = 0; i < line.length(); i++){
+            char c = line.charAt(i);
+            if(quoted){
+                if(c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"'){
+                    field.append('"');
+                    i++;
+                } else if(c == '"'){
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if(c == '"'){
+                quoted = true;
+            } else if(c == ','){
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // one CSV record: a quoted field may contain line breaks, so a record can span several physical lines
+    private static CsvRow readRow(BufferedReader reader, long previousLineNumber) throws IOException {
+        String line = reader.readLine();
+        if(line == null){
+            return null;
+        }
+        long lineNumber = previousLineNumber + 1;
+        StringBuilder text = new StringBuilder(line);
+        int quotes = quoteCount(line);
+        String next;
+        // an odd number of quotes so far means the record ends inside a quoted field
+        while(quotes % 2 != 0 && (next = reader.readLine()) != null){
+            text.append('\n').append(next);
+            quotes += quoteCount(next);
+            lineNumber++;
+        }
+        return new CsvRow(previousLineNumber + 1, lineNumber, text.toString());
+    }
+
+    private static int quoteCount(CharSequence text) {
+        int quotes = 0;
+        for(int i = 0; i < text.length(); i++){
+            if(text.charAt(i) == '"'){
+                quotes++;
+            }
+        }
+        return quotes;
+    }
+
+    // lineNumber is where the record starts, reported in rejects
+    private record CsvRow(long lineNumber, long lastLineNumber, String text) {
+    }
+}
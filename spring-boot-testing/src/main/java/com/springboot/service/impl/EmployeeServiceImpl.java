@@ -1,52 +1,367 @@
 package com.springboot.service.impl;
 
 
+import com.springboot.cache.SingleFlight;
+import com.springboot.config.CacheConfig;
+import com.springboot.config.EmployeeProperties;
+import com.springboot.dto.EmployeeBatchResult;
+import com.springboot.dto.EmployeeLookupResult;
+import com.springboot.dto.EmployeePage;
+import com.springboot.dto.EmployeeView;
 import com.springboot.exception.ResourceNotFoundException;
 import com.springboot.model.Employee;
 import com.springboot.repository.EmployeeRepository;
+import com.springboot.search.EmployeeSearchIndex;
 import com.springboot.service.EmployeeService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+// every public method is timed as employee.service{class,method,exception}, errors are the non-"none" exception tags
 @Service
+@Timed(value = "employee.service", histogram = true)
 public class EmployeeServiceImpl implements EmployeeService {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // ids per DELETE ... IN statement
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    // ids per SELECT ... IN statement of a multi-get
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
     private EmployeeRepository employeeRepository;
+    private EntityManager entityManager;
+    private EmployeeProperties employeeProperties;
+    private MeterRegistry meterRegistry;
+    private EmployeeSearchIndex employeeSearchIndex;
+    private Cache employeesCache;
+    private Cache lookupCache;
+    private TransactionTemplate transactionTemplate;
+    private SingleFlight<Long, Optional<EmployeeView>> employeeLookups;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EntityManager entityManager,
+                               EmployeeProperties employeeProperties, MeterRegistry meterRegistry,
+                               EmployeeSearchIndex employeeSearchIndex, CacheManager cacheManager,
+                               TransactionTemplate transactionTemplate) {
         this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+        this.employeeProperties = employeeProperties;
+        this.meterRegistry = meterRegistry;
+        this.employeeSearchIndex = employeeSearchIndex;
+        // the multi-get reads and fills the same entries as getEmployeeById
+        this.employeesCache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        // lookups cache a row as soon as its load finishes, even inside a caller's transaction:
+        // SingleFlight orders that put against the writes, deferring it to a commit would escape that order
+        this.lookupCache = employeesCache instanceof TransactionAwareCacheDecorator decorator
+                ? decorator.getTargetCache() : employeesCache;
+        this.transactionTemplate = transactionTemplate;
+        this.employeeLookups = new SingleFlight<>(employeeProperties.getLookupWaitTimeout(),
+                meterRegistry.counter("employee.lookup.coalesced"));
     }
 
     @Override
     public Employee saveEmployee(Employee employee) {
+        // the unique index on email does the duplicate check, so a create is a single INSERT
+        Employee savedEmployee;
+        try {
+            savedEmployee = employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail("create", employee, e);
+        }
+        employeeSearchIndex.put(EmployeeView.of(savedEmployee));
+        return savedEmployee;
+    }
+
+    private RuntimeException translateDuplicateEmail(String operation, Employee employee, DataIntegrityViolationException e) {
+        if(e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).endsWith(Employee.EMAIL_UNIQUE_CONSTRAINT)){
+            countDuplicateEmails(operation, 1);
+            return new ResourceNotFoundException("Employee already exists with given email"+employee.getEmail(), e);
+        }
+        return e;
+    }
+
+    @Override
+    @Transactional
+    public List<EmployeeBatchResult> saveEmployees(List<Employee> employees) {
+        List<EmployeeBatchResult> results = new ArrayList<>(employees.size());
+        Set<String> seenEmails = new HashSet<>();
+        int batchSize = employeeProperties.getBatchSize();
+
+        for(int from = 0; from < employees.size(); from += batchSize){
+            List<Employee> chunk = employees.subList(from, Math.min(from + batchSize, employees.size()));
+            Set<String> existingEmails = employeeRepository.findExistingEmails(
+                    chunk.stream().map(Employee::getEmail).filter(Objects::nonNull).toList());
+
+            Set<Employee> toInsert = new LinkedHashSet<>();
+            for(Employee employee : chunk){
+                if(employee.getFirstName() != null && employee.getLastName() != null && employee.getEmail() != null
+                        && !existingEmails.contains(employee.getEmail()) && seenEmails.add(employee.getEmail())){
+                    toInsert.add(employee);
+                }
+            }
+
+            employeeRepository.saveAll(toInsert);
+            toInsert.forEach(inserted -> employeeSearchIndex.put(EmployeeView.of(inserted)));
+            // send the chunk as one JDBC batch and drop it from the persistence context
+            entityManager.flush();
+            entityManager.clear();
+
+            for(int i = 0; i < chunk.size(); i++){
+                results.add(toBatchResult(from + i, chunk.get(i), toInsert));
+            }
+        }
+        countDuplicateEmails("batch", results.stream()
+                .filter(result -> result.getStatus() == EmployeeBatchResult.Status.DUPLICATE)
+                .count());
+        return results;
+    }
 
-        Optional<Employee> savedEmployee = employeeRepository.findByEmail(employee.getEmail());
-        if(savedEmployee.isPresent()){
-            throw new ResourceNotFoundException("Employee already exists with given email"+employee.getEmail());
+    private void countDuplicateEmails(String operation, long count) {
+        if(count > 0){
+            meterRegistry.counter("employee.duplicate.email", "operation", operation).increment(count);
         }
-        return employeeRepository.save(employee);
     }
 
+    private EmployeeBatchResult toBatchResult(int index, Employee employee, Set<Employee> inserted) {
+        if(employee.getFirstName() == null || employee.getLastName() == null || employee.getEmail() == null){
+            return new EmployeeBatchResult(index, EmployeeBatchResult.Status.INVALID, null,
+                    "firstName, lastName and email are required");
+        }
+        if(inserted.contains(employee)){
+            return new EmployeeBatchResult(index, EmployeeBatchResult.Status.CREATED, employee.getId(), null);
+        }
+        return new EmployeeBatchResult(index, EmployeeBatchResult.Status.DUPLICATE, null,
+                "Employee already exists with given email"+employee.getEmail());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeView> getAllEmployees() {
+        return employeeRepository.findAllViews();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeePage getEmployeesAfter(long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // fetch one extra row to find out whether there is a next page
+        List<EmployeeView> employees = employeeRepository.findViewsAfter(cursor, PageRequest.of(0, pageSize + 1));
+        if(employees.size() <= pageSize){
+            return new EmployeePage(employees, null);
+        }
+        List<EmployeeView> content = employees.subList(0, pageSize);
+        return new EmployeePage(content, content.get(pageSize - 1).id());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportEmployees(Consumer<EmployeeView> consumer) {
+        // projections are not managed, so the persistence context stays empty however many rows are written
+        try(Stream<EmployeeView> employees = employeeRepository.streamAllViews()){
+            employees.forEach(consumer);
+        }
+    }
+
+    // served from the in-memory index, a keystroke never reaches the database
+    @Override
+    public List<EmployeeView> searchEmployees(String query, int limit) {
+        return employeeSearchIndex.search(query, limit);
+    }
+
+    // a burst of cache misses for one employee runs one SELECT, the other callers wait for its result outside any
+    // transaction, so they hold no connection while they wait. The SELECT is read-write so the row comes from the
+    // primary, a lagging replica's copy would stay cached for the whole TTL. Only the caller that ran it caches the
+    // row, and only if no write to the employee committed meanwhile (invalidateLookup).
     @Override
-    public List<Employee> getAllEmployees() {
-        return employeeRepository.findAll();
+    public Optional<EmployeeView> getEmployeeById(long id) {
+        EmployeeView cached = employeesCache != null ? employeesCache.get(id, EmployeeView.class) : null;
+        if(cached != null){
+            return Optional.of(cached);
+        }
+        return employeeLookups.load(id,
+                () -> transactionTemplate.execute(status -> employeeRepository.findViewById(id)),
+                employee -> employee.ifPresent(found -> {
+                    if(lookupCache != null){
+                        lookupCache.put(id, found);
+                    }
+                }));
     }
 
+    // cached employees are taken from the cache, the rest is loaded with one SELECT ... IN per chunk. The misses go
+    // through the same lookups as getEmployeeById: read-write on the primary, joined with single lookups already
+    // running, and only cached if no write to the employee committed meanwhile (invalidateLookup).
     @Override
-    public Optional<Employee> getEmployeeById(long id) {
-        return employeeRepository.findById(id);
+    public List<EmployeeLookupResult> getEmployeesByIds(List<Long> ids) {
+        Map<Long, EmployeeView> employees = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for(Long id : new LinkedHashSet<>(ids)){
+            EmployeeView cached = employeesCache != null ? employeesCache.get(id, EmployeeView.class) : null;
+            if(cached != null){
+                employees.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if(!missing.isEmpty()){
+            employeeLookups.loadAll(missing,
+                    keys -> transactionTemplate.execute(status -> findViewsByIds(keys)),
+                    (id, employee) -> employee.ifPresent(found -> {
+                        if(lookupCache != null){
+                            lookupCache.put(id, found);
+                        }
+                    }))
+                    .forEach((id, employee) -> employee.ifPresent(found -> employees.put(id, found)));
+        }
+
+        List<EmployeeLookupResult> results = new ArrayList<>(ids.size());
+        for(Long id : ids){
+            EmployeeView employee = employees.get(id);
+            results.add(new EmployeeLookupResult(id, employee != null
+                    ? EmployeeLookupResult.Status.FOUND : EmployeeLookupResult.Status.NOT_FOUND, employee));
+        }
+        return results;
+    }
+
+    // every id gets an entry, empty when there is no such employee
+    private Map<Long, Optional<EmployeeView>> findViewsByIds(List<Long> ids) {
+        Map<Long, Optional<EmployeeView>> employees = new HashMap<>();
+        for(int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE){
+            for(EmployeeView employee : employeeRepository.findViewsByIdIn(
+                    ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size())))){
+                employees.put(employee.id(), Optional.of(employee));
+            }
+        }
+        ids.forEach(id -> employees.putIfAbsent(id, Optional.empty()));
+        return employees;
     }
 
     @Override
+    @CacheEvict(cacheNames = {CacheConfig.EMPLOYEES_CACHE, CacheConfig.EMPLOYEE_JSON_CACHE}, key = "#updatedEmployee.id")
     public Employee updateEmployee(Employee updatedEmployee) {
-        return employeeRepository.save(updatedEmployee);
+        Employee savedEmployee;
+        try {
+            savedEmployee = employeeRepository.save(updatedEmployee);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail("update", updatedEmployee, e);
+        }
+        invalidateLookup(savedEmployee.getId());
+        employeeSearchIndex.put(EmployeeView.of(savedEmployee));
+        return savedEmployee;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.EMPLOYEES_CACHE, CacheConfig.EMPLOYEE_JSON_CACHE}, key = "#id")
+    public boolean patchEmployee(long id, Long expectedVersion, Employee changes) {
+        int updated;
+        try {
+            updated = employeeRepository.patchById(id, expectedVersion,
+                    changes.getFirstName(), changes.getLastName(), changes.getEmail());
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail("patch", changes, e);
+        }
+        // only a conditional patch that missed needs a second statement to tell 404 from a version conflict
+        if(updated == 0 && expectedVersion != null && employeeRepository.existsById(id)){
+            throw new ObjectOptimisticLockingFailureException(Employee.class, id);
+        }
+        if(updated > 0){
+            invalidateLookup(id);
+            employeeSearchIndex.patch(id, changes.getFirstName(), changes.getLastName(), changes.getEmail());
+        }
+        return updated > 0;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.EMPLOYEES_CACHE, CacheConfig.EMPLOYEE_JSON_CACHE}, key = "#id")
+    public boolean deleteEmployee(long id) {
+        boolean deleted = employeeRepository.deleteEmployeeById(id) > 0;
+        if(deleted){
+            invalidateLookup(id);
+            employeeSearchIndex.remove(id);
+        }
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.EMPLOYEES_CACHE, CacheConfig.EMPLOYEE_JSON_CACHE}, allEntries = true)
+    public int deleteEmployees(List<Long> ids) {
+        int deleted = 0;
+        for(int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE){
+            deleted += employeeRepository.deleteEmployeesByIdIn(ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size())));
+        }
+        invalidateLookups();
+        employeeSearchIndex.removeAll(ids);
+        return deleted;
     }
 
     @Override
-    public void deleteEmployee(long id) {
-        employeeRepository.deleteById(id);
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.EMPLOYEES_CACHE, CacheConfig.EMPLOYEE_JSON_CACHE}, allEntries = true)
+    public int deleteEmployeesByLastName(String lastName) {
+        int deleted = employeeRepository.deleteEmployeesByLastName(lastName);
+        if(deleted > 0){
+            invalidateLookups();
+            employeeSearchIndex.removeByLastName(lastName);
+        }
+        return deleted;
+    }
+
+    // a getEmployeeById load running now may have read the row before this write, it must not cache it.
+    // Runs after the commit, before the @CacheEvict eviction that the transaction-aware cache defers
+    // to the commit as well: registered first, so a load can no longer cache its row once the entry is gone.
+    private void invalidateLookup(long id) {
+        afterCommit(() -> employeeLookups.invalidate(id));
+    }
+
+    private void invalidateLookups() {
+        afterCommit(employeeLookups::invalidateAll);
+    }
+
+    private static void afterCommit(Runnable change) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
     }
 
 }
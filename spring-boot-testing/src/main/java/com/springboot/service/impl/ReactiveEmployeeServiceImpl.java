@@ -0,0 +1,243 @@
+package com.springboot.service.impl;
+
+import com.springboot.config.CacheConfig;
+import com.springboot.config.ReactiveProperties;
+import com.springboot.dto.EmployeePage;
+import com.springboot.dto.EmployeeView;
+import com.springboot.exception.ResourceNotFoundException;
+import com.springboot.model.Employee;
+import com.springboot.search.EmployeeSearchIndex;
+import com.springboot.service.ReactiveEmployeeService;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Parameters;
+import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.Readable;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// R2DBC twin of EmployeeServiceImpl, its database I/O holds no thread while waiting. The R2DBC pool is owned here and not exposed as a
+// ConnectionFactory bean, so Boot does not add a second (reactive) transaction manager next to the JPA one.
+@Service
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService, DisposableBean {
+
+    // allocationSize of the employees_seq generator on Employee
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final String SELECT_VIEW = "select id, first_name, last_name, email, version from employees ";
+
+    private ConnectionPool connectionPool;
+    private DatabaseClient databaseClient;
+    private TransactionalOperator transactionalOperator;
+    private Cache employeesCache;
+    private Cache employeeJsonCache;
+    private EmployeeSearchIndex employeeSearchIndex;
+    private EntityManagerFactory entityManagerFactory;
+
+    // ids left in the block this instance reserved from employees_seq
+    private final Object idLock = new Object();
+    private long nextId;
+    private long maxId = -1;
+
+    public ReactiveEmployeeServiceImpl(ReactiveProperties reactiveProperties, CacheManager cacheManager,
+                                       EmployeeSearchIndex employeeSearchIndex, EntityManagerFactory entityManagerFactory) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(reactiveProperties.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, reactiveProperties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, reactiveProperties.getPassword())
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(reactiveProperties.getMaxPoolSize())
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+        // writes here must not leave stale entries behind for the blocking getEmployeeById
+        this.employeesCache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        this.employeeJsonCache = cacheManager.getCache(CacheConfig.EMPLOYEE_JSON_CACHE);
+        this.employeeSearchIndex = employeeSearchIndex;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public Mono<Employee> saveEmployee(Employee employee) {
+        return nextId()
+                .flatMap(id -> databaseClient.sql("insert into employees (id, first_name, last_name, email, version) "
+                                + "values (:id, :firstName, :lastName, :email, 0)")
+                        .bind("id", id)
+                        .bind("firstName", Parameters.in(R2dbcType.VARCHAR, employee.getFirstName()))
+                        .bind("lastName", Parameters.in(R2dbcType.VARCHAR, employee.getLastName()))
+                        .bind("email", Parameters.in(R2dbcType.VARCHAR, employee.getEmail()))
+                        .then()
+                        .thenReturn(Employee.builder()
+                                .id(id)
+                                .firstName(employee.getFirstName())
+                                .lastName(employee.getLastName())
+                                .email(employee.getEmail())
+                                .build()))
+                .onErrorMap(DuplicateKeyException.class,
+                        e -> new ResourceNotFoundException("Employee already exists with given email"+employee.getEmail(), e))
+                .doOnSuccess(savedEmployee -> {
+                    evict(savedEmployee.getId());
+                    employeeSearchIndex.put(EmployeeView.of(savedEmployee));
+                });
+    }
+
+    // rows are emitted as the driver decodes them, nothing collects them into a list here
+    @Override
+    public Flux<EmployeeView> getAllEmployees() {
+        return databaseClient.sql(SELECT_VIEW + "order by id")
+                .map(ReactiveEmployeeServiceImpl::toView)
+                .all();
+    }
+
+    @Override
+    public Mono<EmployeePage> getEmployeesAfter(long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, EmployeeServiceImpl.MAX_PAGE_SIZE));
+
+        // fetch one extra row to find out whether there is a next page
+        return databaseClient.sql(SELECT_VIEW + "where id > :cursor order by id limit :limit")
+                .bind("cursor", cursor)
+                .bind("limit", pageSize + 1)
+                .map(ReactiveEmployeeServiceImpl::toView)
+                .all()
+                .collectList()
+                .map(employees -> {
+                    if(employees.size() <= pageSize){
+                        return new EmployeePage(employees, null);
+                    }
+                    List<EmployeeView> content = employees.subList(0, pageSize);
+                    return new EmployeePage(content, content.get(pageSize - 1).id());
+                });
+    }
+
+    @Override
+    public Mono<EmployeeView> getEmployeeById(long id) {
+        return databaseClient.sql(SELECT_VIEW + "where id = :id")
+                .bind("id", id)
+                .map(ReactiveEmployeeServiceImpl::toView)
+                .one();
+    }
+
+    // empty when there is no such employee, OptimisticLockingFailureException when expectedVersion is stale
+    @Override
+    public Mono<EmployeeView> updateEmployee(long id, Long expectedVersion, Employee changes) {
+        DatabaseClient.GenericExecuteSpec update = databaseClient.sql("update employees "
+                        + "set first_name = :firstName, last_name = :lastName, email = :email, version = version + 1 "
+                        + "where id = :id" + (expectedVersion != null ? " and version = :version" : ""))
+                .bind("firstName", Parameters.in(R2dbcType.VARCHAR, changes.getFirstName()))
+                .bind("lastName", Parameters.in(R2dbcType.VARCHAR, changes.getLastName()))
+                .bind("email", Parameters.in(R2dbcType.VARCHAR, changes.getEmail()))
+                .bind("id", id);
+        if(expectedVersion != null){
+            update = update.bind("version", expectedVersion);
+        }
+
+        return update.fetch().rowsUpdated()
+                .flatMap(rows -> {
+                    if(rows > 0){
+                        return getEmployeeById(id);
+                    }
+                    if(expectedVersion == null){
+                        return Mono.<EmployeeView>empty();
+                    }
+                    return exists(id).flatMap(exists -> exists
+                            ? Mono.<EmployeeView>error(new OptimisticLockingFailureException(
+                                    "Employee " + id + " is no longer at version " + expectedVersion))
+                            : Mono.<EmployeeView>empty());
+                })
+                .as(transactionalOperator::transactional)
+                .onErrorMap(DuplicateKeyException.class,
+                        e -> new ResourceNotFoundException("Employee already exists with given email"+changes.getEmail(), e))
+                .doOnSuccess(employee -> {
+                    evict(id);
+                    if(employee != null){
+                        employeeSearchIndex.put(employee);
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Boolean> deleteEmployee(long id) {
+        return databaseClient.sql("delete from employees where id = :id")
+                .bind("id", id)
+                .fetch().rowsUpdated()
+                .map(rows -> rows > 0)
+                .doOnSuccess(deleted -> {
+                    evict(id);
+                    if(Boolean.TRUE.equals(deleted)){
+                        employeeSearchIndex.remove(id);
+                    }
+                });
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private Mono<Boolean> exists(long id) {
+        return databaseClient.sql("select count(*) from employees where id = :id")
+                .bind("id", id)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+
+    // same block protocol as Hibernate's pooled optimizer: reading next_val = hi and moving it on by
+    // ID_BLOCK_SIZE reserves (hi - ID_BLOCK_SIZE, hi], so ids never collide with the JPA side
+    private Mono<Long> nextId() {
+        synchronized (idLock){
+            if(nextId <= maxId){
+                return Mono.just(nextId++);
+            }
+        }
+        return databaseClient.sql("select next_val from employees_seq for update")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(hi -> databaseClient.sql("update employees_seq set next_val = :next")
+                        .bind("next", hi + ID_BLOCK_SIZE)
+                        .then()
+                        .thenReturn(hi))
+                .as(transactionalOperator::transactional)
+                .map(hi -> {
+                    long first = Math.max(1, hi - ID_BLOCK_SIZE + 1);
+                    synchronized (idLock){
+                        // a concurrent reservation may replace this block, its unused ids are then skipped
+                        nextId = first + 1;
+                        maxId = hi;
+                    }
+                    return first;
+                });
+    }
+
+    // Hibernate does not see these writes, so its second-level entry and every cached finder result are dropped too
+    private void evict(long id) {
+        if(employeesCache != null){
+            employeesCache.evict(id);
+        }
+        if(employeeJsonCache != null){
+            employeeJsonCache.evict(id);
+        }
+        entityManagerFactory.getCache().evict(Employee.class, id);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+
+    private static EmployeeView toView(Readable row) {
+        return new EmployeeView(row.get("id", Long.class), row.get("first_name", String.class),
+                row.get("last_name", String.class), row.get("email", String.class), row.get("version", Long.class));
+    }
+}
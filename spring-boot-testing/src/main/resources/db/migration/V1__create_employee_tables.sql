@@ -0,0 +1,48 @@
+-- Tables as they were created by ddl-auto, written idempotently so existing schemas can be adopted.
+
+create table if not exists employees (
+    id bigint not null,
+    email varchar(255) not null,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    version bigint not null,
+    primary key (id),
+    constraint uk_employees_email unique (email)
+) engine=InnoDB;
+
+-- MySQL has no sequences, Hibernate emulates employees_seq with a single row table.
+-- When adopting a table filled by IDENTITY the first pooled block (next_val - 49 .. next_val) must start above max(id).
+create table if not exists employees_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into employees_seq (next_val)
+select seed.next_val
+from (select coalesce(max(id) + 50, 1) as next_val from employees) seed
+where not exists (select 1 from employees_seq);
+
+create table if not exists employee_import_jobs (
+    id bigint not null auto_increment,
+    status varchar(16) not null,
+    processed_rows bigint not null,
+    imported_rows bigint not null,
+    rejected_rows bigint not null,
+    message varchar(1000),
+    primary key (id)
+) engine=InnoDB;
+
+create table if not exists employee_import_rejects (
+    id bigint not null,
+    job_id bigint not null,
+    line_number bigint not null,
+    reason varchar(1000) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table if not exists employee_import_rejects_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into employee_import_rejects_seq (next_val)
+select 1 from dual
+where not exists (select 1 from employee_import_rejects_seq);
@@ -0,0 +1,5 @@
+-- Serves the first/last name finders in EmployeeRepository, last_name first so it can also be used on its own.
+create index idx_employees_last_first on employees (last_name, first_name);
+
+-- Rejects are read back per job.
+create index idx_employee_import_rejects_job on employee_import_rejects (job_id, id);
@@ -0,0 +1,34 @@
+-- Brings an employees schema created by ddl-auto up to what V1 creates. On such a schema the
+-- "create table if not exists" statements of V1 were no-ops, so the columns, constraints and sequence
+-- values added later are put in place here. Every step checks information_schema first and is a no-op
+-- on a schema created by V1.
+
+-- optimistic lock column, existing rows start at version 0
+set @ddl = (select if(count(*) = 0,
+                      'alter table employees add column version bigint not null default 0',
+                      'do 0')
+            from information_schema.columns
+            where table_schema = database() and table_name = 'employees' and column_name = 'version');
+prepare ddl from @ddl;
+execute ddl;
+deallocate prepare ddl;
+
+-- duplicate emails are rejected by this index and mapped by its name, the migration fails on existing duplicates
+set @ddl = (select if(count(*) = 0,
+                      'alter table employees add constraint uk_employees_email unique (email)',
+                      'do 0')
+            from information_schema.table_constraints
+            where table_schema = database() and table_name = 'employees' and constraint_name = 'uk_employees_email');
+prepare ddl from @ddl;
+execute ddl;
+deallocate prepare ddl;
+
+-- ddl-auto created the sequence tables starting at 1, below ids already handed out by IDENTITY;
+-- the first pooled block (next_val - 49 .. next_val) has to start above max(id), empty tables are left alone
+update employees_seq
+set next_val = (select max(id) + 50 from employees)
+where next_val < (select max(id) + 50 from employees);
+
+update employee_import_rejects_seq
+set next_val = (select max(id) + 50 from employee_import_rejects)
+where next_val < (select max(id) + 50 from employee_import_rejects);
@@ -0,0 +1,235 @@
+package com.springboot.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.SpringBootTestingApplication;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Compares the platform-thread (default) and virtual-thread ("virtual" profile) request modes under
+// the same closed-loop load. Each mode gets a fresh application JVM against the configured MySQL,
+// the clients page through /api/employees so every request does a blocking JDBC round trip.
+// Both modes run with identical pool settings; the pool size is a variable of its own, rerun with
+// another benchmark.pool-size to see its effect rather than mixing it into the thread-mode comparison.
+//
+//   mvn -Pjava21 test-compile exec:exec -Dbenchmark.concurrency=1000 -Dbenchmark.seconds=30 [-Dbenchmark.pool-size=50]
+public class ThreadModeBenchmark {
+
+    private static final int SEED_ROWS = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("benchmark.concurrency", 1000);
+        int warmupSeconds = Integer.getInteger("benchmark.warmup-seconds", 10);
+        int seconds = Integer.getInteger("benchmark.seconds", 30);
+        String poolSize = System.getProperty("benchmark.pool-size", "");
+        // Boot ignores spring.threads.virtual.enabled before Java 21, both runs would use platform threads
+        if(Runtime.version().feature() < 21){
+            throw new IllegalStateException("ThreadModeBenchmark needs Java 21, running on " + Runtime.version());
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-9s %11s %5s %9s %7s %12s %8s %8s %8s",
+                "mode", "concurrency", "pool", "ok", "errors", "req/s", "p50 ms", "p99 ms", "max ms"));
+        for(String mode : List.of("platform", "virtual")){
+            int port = freePort();
+            Process app = startApplication(mode, port, poolSize);
+            try {
+                String baseUrl = "http://localhost:" + port + "/api/employees";
+                awaitStartup(client, "http://localhost:" + port + "/actuator/health");
+                long maxId = seed(client, baseUrl);
+
+                runLoad(client, baseUrl, maxId, concurrency, warmupSeconds);
+                Result result = runLoad(client, baseUrl, maxId, concurrency, seconds);
+                report.add(String.format("%-9s %11d %5s %9d %7d %12.1f %8.1f %8.1f %8.1f",
+                        mode, concurrency, poolSize.isEmpty() ? "10" : poolSize, result.requests(), result.errors(),
+                        result.requests() / (double) seconds,
+                        result.percentile(50), result.percentile(99), result.percentile(100)));
+            } finally {
+                app.destroy();
+                app.waitFor();
+            }
+        }
+        report.forEach(System.out::println);
+    }
+
+    private static Process startApplication(String mode, int port, String poolSize) throws IOException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<String> command = new ArrayList<>(List.of(java,
+                "-cp", System.getProperty("java.class.path"),
+                SpringBootTestingApplication.class.getName(),
+                "--server.port=" + port,
+                "--spring.jpa.show-sql=false"));
+        // the same pool for both modes, the thread model is the only difference between the runs
+        if(!poolSize.isEmpty()){
+            command.add("--spring.datasource.hikari.maximum-pool-size=" + poolSize);
+            command.add("--spring.datasource.hikari.minimum-idle=" + poolSize);
+        }
+        if(mode.equals("virtual")){
+            command.add("--spring.profiles.active=virtual");
+        }
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(new File("target/benchmark-" + mode + ".log"))
+                .start();
+    }
+
+    private static void awaitStartup(HttpClient client, String healthUrl) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofMinutes(2).toNanos();
+        while(System.nanoTime() < deadline){
+            try {
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(healthUrl)).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if(response.statusCode() == 200){
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Application did not start, see target/benchmark-*.log");
+    }
+
+    // inserts the benchmark rows once (duplicates are skipped by the batch endpoint) and returns the highest id
+    private static long seed(HttpClient client, String baseUrl) throws IOException, InterruptedException {
+        for(int from = 0; from < SEED_ROWS; from += 1000){
+            StringBuilder body = new StringBuilder("[");
+            for(int i = from; i < from + 1000; i++){
+                body.append(i == from ? "" : ",")
+                        .append("{\"firstName\":\"Bench").append(i)
+                        .append("\",\"lastName\":\"Mark\",\"email\":\"bench").append(i).append("@email.com\"}");
+            }
+            client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body.append("]").toString()))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding());
+        }
+
+        long maxId = 0;
+        Long cursor = 0L;
+        while(cursor != null){
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create(baseUrl + "?size=1000&cursor=" + cursor)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            JsonNode page = objectMapper.readTree(response.body());
+            for(JsonNode employee : page.get("content")){
+                maxId = Math.max(maxId, employee.get("id").asLong());
+            }
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asLong();
+        }
+        return maxId;
+    }
+
+    private static Result runLoad(HttpClient client, String baseUrl, long maxId, int concurrency, int seconds)
+            throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        Recorder[] recorders = new Recorder[concurrency];
+
+        for(int i = 0; i < concurrency; i++){
+            Recorder recorder = recorders[i] = new Recorder();
+            Thread thread = new Thread(() -> {
+                try {
+                    while(running.get()){
+                        long cursor = ThreadLocalRandom.current().nextLong(Math.max(1, maxId - PAGE_SIZE));
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create(baseUrl + "?size=" + PAGE_SIZE + "&cursor=" + cursor)).build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            recorder.record(System.nanoTime() - start, response.statusCode() == 200);
+                        } catch (IOException e) {
+                            recorder.record(System.nanoTime() - start, false);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "benchmark-client-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        Thread.sleep(Duration.ofSeconds(seconds).toMillis());
+        running.set(false);
+        done.await();
+        return Result.merge(recorders);
+    }
+
+    private static int freePort() throws IOException {
+        try(ServerSocket socket = new ServerSocket(0)){
+            return socket.getLocalPort();
+        }
+    }
+
+    // per client thread, so recording needs no synchronisation
+    private static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        void record(long nanos, boolean ok) {
+            if(!ok){
+                errors++;
+                return;
+            }
+            if(count == latencies.length){
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    private record Result(long[] sortedLatencies, long errors) {
+
+        static Result merge(Recorder[] recorders) {
+            long[] all = new long[Arrays.stream(recorders).mapToInt(recorder -> recorder.count).sum()];
+            int offset = 0;
+            long errors = 0;
+            for(Recorder recorder : recorders){
+                System.arraycopy(recorder.latencies, 0, all, offset, recorder.count);
+                offset += recorder.count;
+                errors += recorder.errors;
+            }
+            Arrays.sort(all);
+            return new Result(all, errors);
+        }
+
+        long requests() {
+            return sortedLatencies.length;
+        }
+
+        double percentile(double percentile) {
+            if(sortedLatencies.length == 0){
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
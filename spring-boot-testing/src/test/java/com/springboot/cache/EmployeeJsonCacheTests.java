@@ -0,0 +1,77 @@
+package com.springboot.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.config.CacheConfig;
+import com.springboot.dto.EmployeeView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeJsonCacheTests {
+
+    private ObjectMapper objectMapper;
+    private CacheManager cacheManager;
+    private EmployeeJsonCache employeeJsonCache;
+
+    private EmployeeView employee;
+
+    @BeforeEach
+    public void setup(){
+        objectMapper = new ObjectMapper();
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.EMPLOYEE_JSON_CACHE);
+        employeeJsonCache = new EmployeeJsonCache(objectMapper, cacheManager);
+        employee = new EmployeeView(1L, "Naveen", "Kumar", "nk@email.com", 0L);
+    }
+
+    // JUnit test for toJson method served from the cache
+    @DisplayName("JUnit test for toJson method served from the cache")
+    @Test
+    public void givenEncodedEmployee_whenToJson_thenReturnCachedBytes() throws Exception{
+        // given - precondition or set up
+        byte[] encoded = employeeJsonCache.toJson(employee);
+
+        // when - action or behaviour that we are going to test
+        byte[] json = employeeJsonCache.toJson(employee);
+
+        // then - verify the output
+        assertThat(json).isSameAs(encoded);
+        assertThat(json).isEqualTo(objectMapper.writeValueAsBytes(employee));
+    }
+
+    // JUnit test for toJson method with a newer version
+    @DisplayName("JUnit test for toJson method with a newer version")
+    @Test
+    public void givenStaleEncoding_whenToJson_thenEncodeNewVersion() throws Exception{
+        // given - precondition or set up
+        byte[] encoded = employeeJsonCache.toJson(employee);
+        EmployeeView updatedEmployee = new EmployeeView(1L, "UpdatedNaveen", "Kumar", "nk@email.com", 1L);
+
+        // when - action or behaviour that we are going to test
+        byte[] json = employeeJsonCache.toJson(updatedEmployee);
+
+        // then - verify the output
+        assertThat(json).isNotSameAs(encoded);
+        assertThat(objectMapper.readValue(json, EmployeeView.class)).isEqualTo(updatedEmployee);
+        assertThat(employeeJsonCache.toJson(updatedEmployee)).isSameAs(json);
+    }
+
+    // JUnit test for toJson method after an eviction
+    @DisplayName("JUnit test for toJson method after an eviction")
+    @Test
+    public void givenEvictedEncoding_whenToJson_thenEncodeAgain(){
+        // given - precondition or set up
+        byte[] encoded = employeeJsonCache.toJson(employee);
+        cacheManager.getCache(CacheConfig.EMPLOYEE_JSON_CACHE).evict(employee.id());
+
+        // when - action or behaviour that we are going to test
+        byte[] json = employeeJsonCache.toJson(employee);
+
+        // then - verify the output
+        assertThat(json).isNotSameAs(encoded).isEqualTo(encoded);
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEE_JSON_CACHE).get(employee.id())).isNotNull();
+    }
+}
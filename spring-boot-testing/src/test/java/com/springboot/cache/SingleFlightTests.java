@@ -0,0 +1,254 @@
+package com.springboot.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SingleFlightTests {
+
+    private Counter coalesced;
+    private SingleFlight<Long, String> singleFlight;
+    private ExecutorService executor;
+
+    private CountDownLatch loading;
+    private CountDownLatch release;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setup(){
+        coalesced = new SimpleMeterRegistry().counter("employee.lookup.coalesced");
+        singleFlight = new SingleFlight<>(Duration.ofSeconds(5), coalesced);
+        executor = Executors.newFixedThreadPool(8);
+        loading = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    public void tearDown(){
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    // JUnit test for load method with concurrent callers of one key
+    @DisplayName("JUnit test for load method with concurrent callers of one key")
+    @Test
+    public void givenRunningLoad_whenLoadSameKey_thenLoaderRunsOnce() throws Exception{
+        // given - precondition or set up
+        Future<String> first = executor.submit(() -> singleFlight.load(1L, this::blockingLoad));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - action or behaviour that we are going to test
+        List<Future<String>> followers = new ArrayList<>();
+        for(int i = 0; i < 5; i++){
+            followers.add(executor.submit(() -> singleFlight.load(1L, this::blockingLoad)));
+        }
+        awaitCoalesced(5);
+        release.countDown();
+
+        // then - verify the output
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("employee");
+        for(Future<String> follower : followers){
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("employee");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(coalesced.count()).isEqualTo(5);
+        assertThat(singleFlight.size()).isZero();
+    }
+
+    // JUnit test for load method with a failing loader
+    @DisplayName("JUnit test for load method with a failing loader")
+    @Test
+    public void givenFailingLoad_whenLoadSameKey_thenEveryCallerGetsTheExceptionAndNextLoadRetries() throws Exception{
+        // given - precondition or set up
+        IllegalStateException failure = new IllegalStateException("database down");
+        Future<String> first = executor.submit(() -> singleFlight.load(1L, () -> {
+            blockingLoad();
+            throw failure;
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - action or behaviour that we are going to test
+        Future<String> follower = executor.submit(() -> singleFlight.load(1L, this::blockingLoad));
+        awaitCoalesced(1);
+        release.countDown();
+
+        // then - verify the output
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThat(singleFlight.load(1L, () -> "employee")).isEqualTo("employee");
+    }
+
+    // JUnit test for load method waiting longer than the timeout
+    @DisplayName("JUnit test for load method waiting longer than the timeout")
+    @Test
+    public void givenSlowLoad_whenLoadSameKey_thenThrowsQueryTimeoutException() throws Exception{
+        // given - precondition or set up
+        singleFlight = new SingleFlight<>(Duration.ofMillis(50), coalesced);
+        Future<String> first = executor.submit(() -> singleFlight.load(1L, this::blockingLoad));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - action or behaviour that we are going to test
+        // then - verify the output
+        assertThatThrownBy(() -> singleFlight.load(1L, this::blockingLoad))
+                .isInstanceOf(QueryTimeoutException.class);
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("employee");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    // JUnit test for load method with different keys
+    @DisplayName("JUnit test for load method with different keys")
+    @Test
+    public void givenRunningLoad_whenLoadOtherKey_thenNotCoalesced() throws Exception{
+        // given - precondition or set up
+        Future<String> first = executor.submit(() -> singleFlight.load(1L, this::blockingLoad));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - action or behaviour that we are going to test
+        String other = singleFlight.load(2L, () -> "other");
+        release.countDown();
+
+        // then - verify the output
+        assertThat(other).isEqualTo("other");
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("employee");
+        assertThat(coalesced.count()).isZero();
+    }
+
+    // JUnit test for load method with a write invalidating the running load
+    @DisplayName("JUnit test for load method with a write invalidating the running load")
+    @Test
+    public void givenInvalidatedLoad_whenLoadCompletes_thenResultIsNotPublishedAndNextCallerLoadsAgain() throws Exception{
+        // given - precondition or set up
+        List<String> published = new CopyOnWriteArrayList<>();
+        Future<String> first = executor.submit(() -> singleFlight.load(1L, this::blockingLoad, published::add));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> singleFlight.load(1L, this::blockingLoad, published::add));
+        awaitCoalesced(1);
+
+        // when - action or behaviour that we are going to test
+        singleFlight.invalidate(1L);
+        String afterWrite = singleFlight.load(1L, () -> "updated employee", published::add);
+        release.countDown();
+
+        // then - verify the output
+        assertThat(afterWrite).isEqualTo("updated employee");
+        // callers that joined before the write still get the result they waited for, it is just never published
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("employee");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("employee");
+        assertThat(published).containsExactly("updated employee");
+        assertThat(singleFlight.size()).isZero();
+    }
+
+    // JUnit test for load method publishing the result
+    @DisplayName("JUnit test for load method publishing the result")
+    @Test
+    public void givenJoinedLoad_whenLoadCompletes_thenOnlyTheLoadingCallerPublishes() throws Exception{
+        // given - precondition or set up
+        List<String> published = new CopyOnWriteArrayList<>();
+        Future<String> first = executor.submit(() -> singleFlight.load(1L, this::blockingLoad, published::add));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - action or behaviour that we are going to test
+        Future<String> follower = executor.submit(() -> singleFlight.load(1L, this::blockingLoad, published::add));
+        awaitCoalesced(1);
+        release.countDown();
+
+        // then - verify the output
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("employee");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("employee");
+        assertThat(published).containsExactly("employee");
+    }
+
+    // JUnit test for loadAll method with a load of one key running
+    @DisplayName("JUnit test for loadAll method with a load of one key running")
+    @Test
+    public void givenRunningLoad_whenLoadAll_thenRunningKeyIsJoinedAndOthersLoadedTogether() throws Exception{
+        // given - precondition or set up
+        Future<String> first = executor.submit(() -> singleFlight.load(1L, this::blockingLoad));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        List<List<Long>> batches = new CopyOnWriteArrayList<>();
+        Map<Long, String> published = new ConcurrentHashMap<>();
+
+        // when - action or behaviour that we are going to test
+        Future<Map<Long, String>> all = executor.submit(() -> singleFlight.loadAll(List.of(1L, 2L, 3L),
+                keys -> {
+                    batches.add(keys);
+                    return Map.of(2L, "two", 3L, "three");
+                },
+                published::put));
+        awaitCoalesced(1);
+        release.countDown();
+
+        // then - verify the output
+        assertThat(all.get(5, TimeUnit.SECONDS)).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "employee", 2L, "two", 3L, "three"));
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("employee");
+        assertThat(batches).containsExactly(List.of(2L, 3L));
+        // the joined key is published by the caller that loaded it, which has nothing to publish to here
+        assertThat(published).containsOnlyKeys(2L, 3L);
+        assertThat(singleFlight.size()).isZero();
+    }
+
+    // JUnit test for loadAll method with a write invalidating one of its keys
+    @DisplayName("JUnit test for loadAll method with a write invalidating one of its keys")
+    @Test
+    public void givenInvalidatedKey_whenLoadAllCompletes_thenOnlyTheOtherKeysArePublished() throws Exception{
+        // given - precondition or set up
+        Map<Long, String> published = new ConcurrentHashMap<>();
+        Future<Map<Long, String>> all = executor.submit(() -> singleFlight.loadAll(List.of(1L, 2L),
+                keys -> {
+                    blockingLoad();
+                    return Map.of(1L, "one", 2L, "two");
+                },
+                published::put));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - action or behaviour that we are going to test
+        singleFlight.invalidate(1L);
+        release.countDown();
+
+        // then - verify the output
+        assertThat(all.get(5, TimeUnit.SECONDS)).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "one", 2L, "two"));
+        assertThat(published).containsExactly(Map.entry(2L, "two"));
+        assertThat(singleFlight.size()).isZero();
+    }
+
+    private String blockingLoad() {
+        loads.incrementAndGet();
+        loading.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "employee";
+    }
+
+    // the counter is incremented before a caller starts waiting
+    private void awaitCoalesced(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(coalesced.count() < count && System.nanoTime() < deadline){
+            Thread.sleep(1);
+        }
+    }
+}
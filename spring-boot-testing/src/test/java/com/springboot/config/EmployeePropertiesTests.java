@@ -0,0 +1,64 @@
+package com.springboot.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeePropertiesTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+            .withUserConfiguration(PropertiesConfig.class);
+
+    // JUnit test for the default employee properties
+    @DisplayName("JUnit test for the default employee properties")
+    @Test
+    public void givenNoSettings_whenBind_thenDefaults(){
+        // given - precondition or set up
+
+        // when - action or behaviour that we are going to test
+        // then - verify the output
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context.getBean(EmployeeProperties.class).getBatchSize()).isEqualTo(50);
+            assertThat(context.getBean(EmployeeProperties.class).getImportChunkSize()).isEqualTo(1000);
+        });
+    }
+
+    // JUnit test for a zero batch size
+    @DisplayName("JUnit test for a zero batch size")
+    @Test
+    public void givenZeroBatchSize_whenBind_thenStartupFails(){
+        // given - precondition or set up
+        ApplicationContextRunner runner = contextRunner.withPropertyValues("employee.batch-size=0");
+
+        // when - action or behaviour that we are going to test
+        // then - verify the output
+        runner.run(context -> assertThat(context).hasFailed()
+                .getFailure().rootCause().hasMessageContaining("batchSize"));
+    }
+
+    // JUnit test for a negative import chunk size
+    @DisplayName("JUnit test for a negative import chunk size")
+    @Test
+    public void givenNegativeImportChunkSize_whenBind_thenStartupFails(){
+        // given - precondition or set up
+        ApplicationContextRunner runner = contextRunner.withPropertyValues("employee.import-chunk-size=-1");
+
+        // when - action or behaviour that we are going to test
+        // then - verify the output
+        runner.run(context -> assertThat(context).hasFailed()
+                .getFailure().rootCause().hasMessageContaining("importChunkSize"));
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(EmployeeProperties.class)
+    static class PropertiesConfig {
+    }
+}
@@ -0,0 +1,129 @@
+package com.springboot.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReadWriteRoutingDataSourceTests {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Clock clock;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    public void setup(){
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replica, Duration.ofSeconds(30), clock);
+    }
+
+    @AfterEach
+    public void tearDown(){
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    // JUnit test for routing a read-write transaction
+    @DisplayName("JUnit test for routing a read-write transaction")
+    @Test
+    public void givenReadWriteTransaction_whenGetConnection_thenUsePrimary() throws SQLException {
+        // given - precondition or set up
+        given(primary.getConnection()).willReturn(primaryConnection);
+
+        // when - action or behaviour that we are going to test
+        Connection connection = routingDataSource.getConnection();
+
+        // then - verify the output
+        assertThat(connection).isSameAs(primaryConnection);
+        verifyNoInteractions(replica);
+    }
+
+    // JUnit test for routing a read-only transaction
+    @DisplayName("JUnit test for routing a read-only transaction")
+    @Test
+    public void givenReadOnlyTransaction_whenGetConnection_thenUseReplica() throws SQLException {
+        // given - precondition or set up
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replica.getConnection()).willReturn(replicaConnection);
+
+        // when - action or behaviour that we are going to test
+        Connection connection = routingDataSource.getConnection();
+
+        // then - verify the output
+        assertThat(connection).isSameAs(replicaConnection);
+        verifyNoInteractions(primary);
+    }
+
+    // JUnit test for falling back to the primary while the replica is down
+    @DisplayName("JUnit test for falling back to the primary while the replica is down")
+    @Test
+    public void givenReplicaDown_whenGetConnection_thenFallBackToPrimaryUntilBackoffExpires() throws SQLException {
+        // given - precondition or set up
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(clock.millis()).willReturn(0L, 0L, 10_000L, 30_000L);
+        given(replica.getConnection())
+                .willThrow(new SQLTransientConnectionException("replica - Connection is not available"))
+                .willReturn(replicaConnection);
+        given(primary.getConnection()).willReturn(primaryConnection);
+
+        // when - action or behaviour that we are going to test
+        Connection failedOver = routingDataSource.getConnection();
+        Connection duringBackoff = routingDataSource.getConnection();
+        Connection afterBackoff = routingDataSource.getConnection();
+
+        // then - verify the output
+        assertThat(failedOver).isSameAs(primaryConnection);
+        assertThat(duringBackoff).isSameAs(primaryConnection);
+        assertThat(afterBackoff).isSameAs(replicaConnection);
+        verify(replica, times(2)).getConnection();
+        verify(primary, times(2)).getConnection();
+    }
+
+    // JUnit test for falling back to the primary when the replica rejects the credentials' connection
+    @DisplayName("JUnit test for falling back to the primary when the replica rejects the credentials' connection")
+    @Test
+    public void givenReplicaFailing_whenGetConnectionWithCredentials_thenFallBackToPrimary() throws SQLException {
+        // given - precondition or set up
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(clock.millis()).willReturn(0L, 0L, 1_000L);
+        given(replica.getConnection("app", "secret")).willThrow(new SQLException("Access denied for user 'app'"));
+        given(primary.getConnection("app", "secret")).willReturn(primaryConnection);
+
+        // when - action or behaviour that we are going to test
+        Connection failedOver = routingDataSource.getConnection("app", "secret");
+        Connection duringBackoff = routingDataSource.getConnection("app", "secret");
+
+        // then - verify the output
+        assertThat(failedOver).isSameAs(primaryConnection);
+        assertThat(duringBackoff).isSameAs(primaryConnection);
+        verify(replica, times(1)).getConnection("app", "secret");
+        verify(primary, times(2)).getConnection("app", "secret");
+    }
+}
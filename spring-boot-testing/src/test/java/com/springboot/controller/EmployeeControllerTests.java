@@ -1,6 +1,15 @@
 package com.springboot.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.springboot.cache.EmployeeJsonCache;
+import com.springboot.config.CacheConfig;
+import com.springboot.config.HttpMessageConvertersConfig;
+import com.springboot.dto.EmployeeBatchResult;
+import com.springboot.dto.EmployeeLookupResult;
+import com.springboot.dto.EmployeePage;
+import com.springboot.dto.EmployeeView;
 import com.springboot.model.Employee;
 import com.springboot.service.EmployeeService;
 import org.hamcrest.CoreMatchers;
@@ -11,8 +20,13 @@ import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
@@ -21,7 +35,9 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,7 +45,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.CoreMatchers.*;
 
-@WebMvcTest
+@WebMvcTest(EmployeeController.class)
+@Import({HttpMessageConvertersConfig.class, CacheConfig.class})
 public class EmployeeControllerTests {
 
     @Autowired
@@ -38,9 +55,14 @@ public class EmployeeControllerTests {
     @MockBean
     private EmployeeService employeeService;
 
+    @SpyBean
+    private EmployeeJsonCache employeeJsonCache;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    private static final MediaType MEDIA_TYPE_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
     // JUnit test for createEmployee Method
     @DisplayName("JUnit test for createEmployee Method")
     @Test
@@ -72,10 +94,10 @@ public class EmployeeControllerTests {
                         CoreMatchers.is(employee.getEmail())));
     }
 
-    // JUnit test for getAllEmployees Method
-    @DisplayName("JUnit test for getAllEmployees Method")
+    // JUnit test for createEmployees Method
+    @DisplayName("JUnit test for createEmployees Method")
     @Test
-    public void givenEmployees_whenGetAllEmployees_thenReturnListOfEmployees() throws Exception{
+    public void givenEmployeesList_whenCreateEmployees_thenReturnPerItemResults() throws Exception{
 
         // given - precondition or set up
         List<Employee> employeeList = new ArrayList<>();
@@ -89,8 +111,88 @@ public class EmployeeControllerTests {
                 Employee.builder()
                 .firstName("Tony")
                 .lastName("Stark")
-                .email("ts@email.com")
+                .email("nk@email.com")
+                .build());
+
+        given(employeeService.saveEmployees(anyList()))
+                .willReturn(List.of(
+                        new EmployeeBatchResult(0, EmployeeBatchResult.Status.CREATED, 1L, null),
+                        new EmployeeBatchResult(1, EmployeeBatchResult.Status.DUPLICATE, null, "duplicate")));
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employeeList)));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(employeeList.size())))
+                .andExpect(jsonPath("$[0].status", is("CREATED")))
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[1].status", is("DUPLICATE")));
+    }
+
+    // JUnit test for createEmployees Method - Smile request and response
+    @DisplayName("JUnit test for createEmployees Method - Smile request and response")
+    @Test
+    public void givenSmileEmployeesList_whenCreateEmployees_thenReturnSmileResults() throws Exception{
+
+        // given - precondition or set up
+        SmileMapper smileMapper = new SmileMapper();
+        List<Employee> employeeList = List.of(Employee.builder()
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
                 .build());
+        given(employeeService.saveEmployees(anyList()))
+                .willReturn(List.of(new EmployeeBatchResult(0, EmployeeBatchResult.Status.CREATED, 1L, null)));
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees/batch")
+                .contentType(MEDIA_TYPE_SMILE)
+                .accept(MEDIA_TYPE_SMILE)
+                .content(smileMapper.writeValueAsBytes(employeeList)));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(content().contentType(MEDIA_TYPE_SMILE));
+        byte[] body = response.andReturn().getResponse().getContentAsByteArray();
+        assertThat(smileMapper.readTree(body).get(0).get("status").asText()).isEqualTo("CREATED");
+        verify(employeeService).saveEmployees(argThat(employees -> employees.size() == 1
+                && employees.get(0).getEmail().equals("nk@email.com")));
+    }
+
+    // JUnit test for getAllEmployees Method - CBOR
+    @DisplayName("JUnit test for getAllEmployees Method - CBOR")
+    @Test
+    public void givenCborAccept_whenGetAllEmployees_thenReturnCborList() throws Exception{
+
+        // given - precondition or set up
+        List<EmployeeView> employeeList = List.of(
+                new EmployeeView(1L, "Naveen", "Kumar", "nk@email.com", 0L),
+                new EmployeeView(2L, "Tony", "Stark", "ts@email.com", 0L));
+        given(employeeService.getAllEmployees()).willReturn(employeeList);
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees").accept(MediaType.APPLICATION_CBOR));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+        byte[] body = response.andReturn().getResponse().getContentAsByteArray();
+        assertThat(new CBORMapper().readValue(body, EmployeeView[].class)).containsExactlyElementsOf(employeeList);
+    }
+
+    // JUnit test for getAllEmployees Method
+    @DisplayName("JUnit test for getAllEmployees Method")
+    @Test
+    public void givenEmployees_whenGetAllEmployees_thenReturnListOfEmployees() throws Exception{
+
+        // given - precondition or set up
+        List<EmployeeView> employeeList = new ArrayList<>();
+        employeeList.add(new EmployeeView(1L, "Naveen", "Kumar", "nk@email.com", 0L));
+        employeeList.add(new EmployeeView(2L, "Tony", "Stark", "ts@email.com", 0L));
 
         BDDMockito.given(employeeService.getAllEmployees())
                 .willReturn(employeeList);
@@ -106,6 +208,141 @@ public class EmployeeControllerTests {
     }
 
 
+    // JUnit test for getEmployeesPage Method
+    @DisplayName("JUnit test for getEmployeesPage Method")
+    @Test
+    public void givenCursorAndSize_whenGetEmployeesPage_thenReturnPageWithNextCursor() throws Exception{
+
+        // given - precondition or set up
+        Employee employee = Employee.builder()
+                .id(5L)
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build();
+
+        given(employeeService.getEmployeesAfter(4L, 1))
+                .willReturn(new EmployeePage(List.of(EmployeeView.of(employee)), employee.getId()));
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees")
+                .param("cursor", "4")
+                .param("size", "1"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.content.size()", is(1)))
+                .andExpect(jsonPath("$.content[0].email", is(employee.getEmail())))
+                .andExpect(jsonPath("$.nextCursor", is(5)));
+    }
+
+    // JUnit test for getEmployeesByIds Method
+    @DisplayName("JUnit test for getEmployeesByIds Method")
+    @Test
+    public void givenEmployeeIds_whenGetEmployeesByIds_thenReturnResultsInRequestOrder() throws Exception{
+
+        // given - precondition or set up
+        EmployeeView employee = new EmployeeView(2L, "Tony", "Stark", "ts@email.com", 0L);
+        given(employeeService.getEmployeesByIds(List.of(2L, 7L))).willReturn(List.of(
+                new EmployeeLookupResult(2L, EmployeeLookupResult.Status.FOUND, employee),
+                new EmployeeLookupResult(7L, EmployeeLookupResult.Status.NOT_FOUND, null)));
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees").param("ids", "2,7"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$[0].id", is(2)))
+                .andExpect(jsonPath("$[0].employee.email", is(employee.email())))
+                .andExpect(jsonPath("$[1].id", is(7)))
+                .andExpect(jsonPath("$[1].status", is("NOT_FOUND")));
+    }
+
+    // JUnit test for lookupEmployees Method - too many ids
+    @DisplayName("JUnit test for lookupEmployees Method - too many ids")
+    @Test
+    public void givenTooManyIds_whenLookupEmployees_thenReturn400() throws Exception{
+
+        // given - precondition or set up
+        List<Long> employeeIds = new ArrayList<>();
+        for(long id = 0; id <= EmployeeController.MAX_LOOKUP_IDS; id++){
+            employeeIds.add(id);
+        }
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employeeIds)));
+
+        // then - verify the output
+        response.andExpect(status().isBadRequest());
+        verify(employeeService, never()).getEmployeesByIds(anyList());
+    }
+
+    // JUnit test for searchEmployees Method
+    @DisplayName("JUnit test for searchEmployees Method")
+    @Test
+    public void givenQueryAndLimit_whenSearchEmployees_thenReturnMatchingEmployees() throws Exception{
+
+        // given - precondition or set up
+        EmployeeView employee = new EmployeeView(1L, "Naveen", "Kumar", "nk@email.com", 0L);
+        given(employeeService.searchEmployees("nav", 5)).willReturn(List.of(employee));
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/search")
+                .param("q", "nav")
+                .param("limit", "5"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].firstName", is(employee.firstName())));
+    }
+
+    // JUnit test for exportEmployees Method
+    @DisplayName("JUnit test for exportEmployees Method")
+    @Test
+    public void givenEmployees_whenExportEmployees_thenStreamNdjson() throws Exception{
+
+        // given - precondition or set up
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build();
+        Employee employee1 = Employee.builder()
+                .id(2L)
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("ts@email.com")
+                .build();
+
+        willAnswer(invocation -> {
+            Consumer<EmployeeView> consumer = invocation.getArgument(0);
+            consumer.accept(EmployeeView.of(employee));
+            consumer.accept(EmployeeView.of(employee1));
+            return null;
+        }).given(employeeService).exportEmployees(any());
+
+        // when - action or behaviour that we are going to test
+        MvcResult mvcResult = mockMvc.perform(get("/api/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(mvcResult));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(
+                        objectMapper.writeValueAsString(EmployeeView.of(employee)) + "\n"
+                                + objectMapper.writeValueAsString(EmployeeView.of(employee1)) + "\n"));
+    }
+
     // positive scenario - valid employee id
     // JUnit test for getEmployeeById method - positive
     @DisplayName("JUnit test for getEmployeeById method - positive")
@@ -119,7 +356,7 @@ public class EmployeeControllerTests {
                 .email("nk@email.com")
                 .build();
 
-        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(employee));
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(EmployeeView.of(employee)));
 
         // when - action or behaviour that we are going to test
         ResultActions response = mockMvc.perform(get("/api/employees/{id}",employeeId));
@@ -130,9 +367,31 @@ public class EmployeeControllerTests {
                  .andExpect(jsonPath("$.firstName",is(employee.getFirstName())))
                  .andExpect(jsonPath("$.lastName",is(employee.getLastName())))
                  .andExpect(jsonPath("$.email",is(employee.getEmail())));
+         // the JSON body is written from the pre-encoded cache, not by the Jackson converter
+         verify(employeeJsonCache).toJson(EmployeeView.of(employee));
     }
 
     // negative scenario - valid employee id
+    // JUnit test for getEmployeeById method - CBOR
+    @DisplayName("JUnit test for getEmployeeById method - CBOR")
+    @Test
+    public void givenCborAccept_whenGetEmployeeById_thenReturnCborEmployee() throws Exception{
+        // given - precondition or set up
+        EmployeeView employee = new EmployeeView(1L, "Naveen", "Kumar", "nk@email.com", 3L);
+        given(employeeService.getEmployeeById(1L)).willReturn(Optional.of(employee));
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", 1L).accept(MediaType.APPLICATION_CBOR));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"3-cbor\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+        byte[] body = response.andReturn().getResponse().getContentAsByteArray();
+        assertThat(new CBORMapper().readValue(body, EmployeeView.class)).isEqualTo(employee);
+    }
+
     // JUnit test for getEmployeeById method - negative
     @DisplayName("JUnit test for getEmployeeById method - negative")
     @Test
@@ -155,6 +414,87 @@ public class EmployeeControllerTests {
                 .andDo(print());
     }
 
+    // JUnit test for getEmployeeById method - lookup timed out
+    @DisplayName("JUnit test for getEmployeeById method - lookup timed out")
+    @Test
+    public void givenLookupTimeout_whenGetEmployeeById_thenReturn503() throws Exception{
+        // given - precondition or set up
+        long employeeId = 1L;
+        given(employeeService.getEmployeeById(employeeId))
+                .willThrow(new QueryTimeoutException("Gave up waiting 5000 ms for the running load of 1"));
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}",employeeId));
+
+        // then - verify the output
+        response.andExpect(status().isServiceUnavailable())
+                .andDo(print());
+    }
+
+    // JUnit test for getEmployeeById method - conditional request
+    @DisplayName("JUnit test for getEmployeeById method - conditional request")
+    @Test
+    public void givenMatchingETag_whenGetEmployeeById_thenReturn304() throws Exception{
+        // given - precondition or set up
+        long employeeId = 1L;
+        Employee employee = Employee.builder()
+                .id(employeeId)
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .version(3L)
+                .build();
+
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(EmployeeView.of(employee)));
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}",employeeId)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"3-json\""));
+
+        // then - verify the output
+        response.andExpect(status().isNotModified())
+                .andDo(print())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"3-json\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().string(""));
+    }
+
+    // JUnit test for getEmployeeById method - conditional request for another representation
+    @DisplayName("JUnit test for getEmployeeById method - conditional request for another representation")
+    @Test
+    public void givenJsonETag_whenGetEmployeeByIdAsSmile_thenReturnSmileBody() throws Exception{
+        // given - precondition or set up
+        EmployeeView employee = new EmployeeView(1L, "Naveen", "Kumar", "nk@email.com", 3L);
+        given(employeeService.getEmployeeById(1L)).willReturn(Optional.of(employee));
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", 1L)
+                .accept(MEDIA_TYPE_SMILE)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"3-json\""));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(content().contentType(MEDIA_TYPE_SMILE))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"3-x-jackson-smile\""));
+        byte[] body = response.andReturn().getResponse().getContentAsByteArray();
+        assertThat(new SmileMapper().readValue(body, EmployeeView.class)).isEqualTo(employee);
+    }
+
+    // JUnit test for getEmployeeById method - unsupported representation
+    @DisplayName("JUnit test for getEmployeeById method - unsupported representation")
+    @Test
+    public void givenXmlAccept_whenGetEmployeeById_thenReturn406() throws Exception{
+        // given - precondition or set up
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", 1L).accept(MediaType.APPLICATION_XML));
+
+        // then - verify the output
+        response.andExpect(status().isNotAcceptable())
+                .andDo(print());
+        verify(employeeService, never()).getEmployeeById(1L);
+    }
+
     // JUnit test for updateEmployee method - positive scenario
     @DisplayName("JUnit test for updateEmployee method - positive scenario")
     @Test
@@ -173,7 +513,7 @@ public class EmployeeControllerTests {
                 .email("updated@email.com")
                 .build();
 
-        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(savedEmployee));
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(EmployeeView.of(savedEmployee)));
         given(employeeService.updateEmployee(ArgumentMatchers.any(Employee.class)))
         .willAnswer((invocation -> invocation.getArgument(0)));
 
@@ -190,6 +530,39 @@ public class EmployeeControllerTests {
                 .andExpect(jsonPath("$.email",is(updatedEmployee.getEmail())));
     }
 
+    // JUnit test for updateEmployee method - stale If-Match
+    @DisplayName("JUnit test for updateEmployee method - stale If-Match")
+    @Test
+    public void givenStaleIfMatch_whenUpdateEmployee_thenReturn412() throws Exception{
+        // given - precondition or set up
+        long employeeId = 1L;
+        Employee savedEmployee = Employee.builder()
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .version(4L)
+                .build();
+
+        Employee updatedEmployee = Employee.builder()
+                .firstName("UpdatedNaveen")
+                .lastName("UpdatedKumar")
+                .email("updated@email.com")
+                .build();
+
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(EmployeeView.of(savedEmployee)));
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(put("/api/employees/{id}",employeeId)
+                .header(HttpHeaders.IF_MATCH, "W/\"3-json\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        // then - verify the output
+        response.andExpect(status().isPreconditionFailed())
+                .andDo(print());
+        verify(employeeService, never()).updateEmployee(ArgumentMatchers.any(Employee.class));
+    }
+
     // JUnit test for updateEmployee method - negative scenario
     @DisplayName("JUnit test for updateEmployee method - negative scenario")
     @Test
@@ -222,13 +595,50 @@ public class EmployeeControllerTests {
                 .andDo(print());
     }
 
+    // JUnit test for patchEmployee method - positive scenario
+    @DisplayName("JUnit test for patchEmployee method - positive scenario")
+    @Test
+    public void givenChangedFields_whenPatchEmployee_thenReturn204() throws Exception{
+        // given - precondition or set up
+        long employeeId = 1L;
+        given(employeeService.patchEmployee(eq(employeeId), isNull(), ArgumentMatchers.any(Employee.class))).willReturn(true);
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(patch("/api/employees/{id}",employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"updated@email.com\"}"));
+
+        // then - verify the output
+        response.andExpect(status().isNoContent())
+                .andDo(print());
+        verify(employeeService, never()).getEmployeeById(employeeId);
+    }
+
+    // JUnit test for patchEmployee method - negative scenario
+    @DisplayName("JUnit test for patchEmployee method - negative scenario")
+    @Test
+    public void givenChangedFields_whenPatchEmployee_thenReturn404() throws Exception{
+        // given - precondition or set up
+        long employeeId = 1L;
+        given(employeeService.patchEmployee(eq(employeeId), isNull(), ArgumentMatchers.any(Employee.class))).willReturn(false);
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(patch("/api/employees/{id}",employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"updated@email.com\"}"));
+
+        // then - verify the output
+        response.andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
     // JUnit test for deleteEmployee method
     @DisplayName("JUnit test for deleteEmployee method")
     @Test
     public void givenEmployeeId_whenDeleteEmployee_thenReturn200() throws Exception{
         // given - precondition or set up
         long employeeId = 1L;
-        willDoNothing().given(employeeService).deleteEmployee(employeeId);
+        given(employeeService.deleteEmployee(employeeId)).willReturn(true);
 
         // when - action or behaviour that we are going to test
         ResultActions response = mockMvc.perform(delete("/api/employees/{id}", employeeId));
@@ -239,5 +649,53 @@ public class EmployeeControllerTests {
 
     }
 
+    // JUnit test for deleteEmployee method - negative scenario
+    @DisplayName("JUnit test for deleteEmployee method - negative scenario")
+    @Test
+    public void givenUnknownEmployeeId_whenDeleteEmployee_thenReturn404() throws Exception{
+        // given - precondition or set up
+        long employeeId = 1L;
+        given(employeeService.deleteEmployee(employeeId)).willReturn(false);
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(delete("/api/employees/{id}", employeeId));
+
+        // then - verify the output
+        response.andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
+    // JUnit test for deleteEmployees method
+    @DisplayName("JUnit test for deleteEmployees method")
+    @Test
+    public void givenEmployeeIds_whenDeleteEmployees_thenReturnDeletedCount() throws Exception{
+        // given - precondition or set up
+        given(employeeService.deleteEmployees(List.of(1L, 2L, 3L))).willReturn(2);
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(delete("/api/employees").param("ids", "1,2,3"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.deleted", is(2)));
+    }
+
+    // JUnit test for deleteEmployeesByLastName method
+    @DisplayName("JUnit test for deleteEmployeesByLastName method")
+    @Test
+    public void givenLastName_whenDeleteEmployeesByLastName_thenReturnDeletedCount() throws Exception{
+        // given - precondition or set up
+        given(employeeService.deleteEmployeesByLastName("Kumar")).willReturn(3);
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(delete("/api/employees").param("lastName", "Kumar"));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.deleted", is(3)));
+    }
+
 
 }
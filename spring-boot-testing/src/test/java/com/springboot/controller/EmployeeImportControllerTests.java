@@ -0,0 +1,143 @@
+package com.springboot.controller;
+
+import com.springboot.model.EmployeeImportJob;
+import com.springboot.model.EmployeeImportReject;
+import com.springboot.service.EmployeeImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EmployeeImportController.class)
+public class EmployeeImportControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeImportService employeeImportService;
+
+    // JUnit test for importEmployees Method
+    @DisplayName("JUnit test for importEmployees Method")
+    @Test
+    public void givenCsvBody_whenImportEmployees_thenReturnQueuedJobAndItsLocation() throws Exception{
+        // given - precondition or set up
+        EmployeeImportJob job = EmployeeImportJob.builder()
+                .id(1L)
+                .status(EmployeeImportJob.Status.QUEUED)
+                .build();
+        given(employeeImportService.startImport(any(InputStream.class), eq(null))).willReturn(job);
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees/imports")
+                .contentType("text/csv")
+                .content("firstName,lastName,email\nNaveen,Kumar,nk@email.com\n"));
+
+        // then - verify the output
+        response.andExpect(status().isAccepted())
+                .andDo(print())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/api/employees/imports/1"))
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.status", is("QUEUED")));
+    }
+
+    // JUnit test for importEmployees Method - resuming a running job
+    @DisplayName("JUnit test for importEmployees Method - resuming a running job")
+    @Test
+    public void givenRunningJob_whenResumeImport_thenReturn409() throws Exception{
+        // given - precondition or set up
+        given(employeeImportService.startImport(any(InputStream.class), eq(1L)))
+                .willThrow(new IllegalStateException("Import job 1 is still RUNNING"));
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees/imports")
+                .param("resumeJobId", "1")
+                .contentType("text/csv")
+                .content("firstName,lastName,email\nNaveen,Kumar,nk@email.com\n"));
+
+        // then - verify the output
+        response.andExpect(status().isConflict())
+                .andDo(print());
+    }
+
+    // JUnit test for getImportJob Method - positive
+    @DisplayName("JUnit test for getImportJob Method - positive")
+    @Test
+    public void givenJobId_whenGetImportJob_thenReturnStatusAndCounters() throws Exception{
+        // given - precondition or set up
+        EmployeeImportJob job = EmployeeImportJob.builder()
+                .id(1L)
+                .status(EmployeeImportJob.Status.RUNNING)
+                .processedRows(1000)
+                .importedRows(998)
+                .rejectedRows(2)
+                .build();
+        given(employeeImportService.getImportJob(1L)).willReturn(Optional.of(job));
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/imports/{id}", 1L));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is("RUNNING")))
+                .andExpect(jsonPath("$.processedRows", is(1000)));
+    }
+
+    // JUnit test for getImportJob Method - negative
+    @DisplayName("JUnit test for getImportJob Method - negative")
+    @Test
+    public void givenUnknownJobId_whenGetImportJob_thenReturn404() throws Exception{
+        // given - precondition or set up
+        given(employeeImportService.getImportJob(1L)).willReturn(Optional.empty());
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/imports/{id}", 1L));
+
+        // then - verify the output
+        response.andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
+    // JUnit test for getImportRejects Method
+    @DisplayName("JUnit test for getImportRejects Method")
+    @Test
+    public void givenJobId_whenGetImportRejects_thenReturnRejects() throws Exception{
+        // given - precondition or set up
+        EmployeeImportReject reject = EmployeeImportReject.builder()
+                .id(3L)
+                .jobId(1L)
+                .lineNumber(2L)
+                .reason("email is required")
+                .build();
+        given(employeeImportService.getImportRejects(1L, 0L, 100)).willReturn(List.of(reject));
+
+        // when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/imports/{id}/rejects", 1L));
+
+        // then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$[0].lineNumber", is(2)))
+                .andExpect(jsonPath("$[0].reason", is("email is required")));
+    }
+}
@@ -0,0 +1,221 @@
+package com.springboot.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.config.ReactiveProperties;
+import com.springboot.config.ReactiveServer;
+import com.springboot.dto.EmployeeView;
+import com.springboot.model.Employee;
+import com.springboot.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.reactive.server.HttpHandlerConnector;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+// the HttpHandler ReactiveServer runs on Netty, without the server
+@SpringJUnitConfig({ReactiveServer.class, ReactiveProperties.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class ReactiveEmployeeHandlerTests {
+
+    @Autowired
+    private ReactiveServer reactiveServer;
+
+    @MockBean
+    private ReactiveEmployeeService reactiveEmployeeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setup(){
+        webTestClient = WebTestClient.bindToServer(new HttpHandlerConnector(reactiveServer.httpHandler())).build();
+    }
+
+    // JUnit test for createEmployee Method
+    @DisplayName("JUnit test for createEmployee Method")
+    @Test
+    public void givenEmployee_whenCreateEmployee_thenReturnSavedEmployee(){
+        // given - precondition or set up
+        Employee employee = Employee.builder()
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build();
+        given(reactiveEmployeeService.saveEmployee(ArgumentMatchers.any(Employee.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.post().uri("/api/reactive/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employee)
+                .exchange();
+
+        // then - verify the output
+        response.expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.email").isEqualTo(employee.getEmail());
+    }
+
+    // JUnit test for getAllEmployees Method - NDJSON streaming
+    @DisplayName("JUnit test for getAllEmployees Method - NDJSON streaming")
+    @Test
+    public void givenEmployees_whenGetAllEmployeesAsNdjson_thenStreamOneElementAtATime() throws Exception{
+        // given - precondition or set up
+        EmployeeView employee = new EmployeeView(1L, "Naveen", "Kumar", "nk@email.com", 0L);
+        EmployeeView employee1 = new EmployeeView(2L, "Tony", "Stark", "ts@email.com", 0L);
+        List<Long> requested = new CopyOnWriteArrayList<>();
+        given(reactiveEmployeeService.getAllEmployees())
+                .willReturn(Flux.just(employee, employee1).doOnRequest(requested::add));
+
+        // when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/reactive/employees")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange();
+
+        // then - verify the output
+        response.expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).isEqualTo(
+                        objectMapper.writeValueAsString(employee) + "\n"
+                                + objectMapper.writeValueAsString(employee1) + "\n");
+        // demand is bounded, the writer never asks for everything up front
+        assertThat(requested).isNotEmpty().noneMatch(n -> n == Long.MAX_VALUE);
+    }
+
+    // JUnit test for getAllEmployees Method - JSON array
+    @DisplayName("JUnit test for getAllEmployees Method - JSON array")
+    @Test
+    public void givenEmployees_whenGetAllEmployeesAsJson_thenReturnArray(){
+        // given - precondition or set up
+        given(reactiveEmployeeService.getAllEmployees()).willReturn(Flux.just(
+                new EmployeeView(1L, "Naveen", "Kumar", "nk@email.com", 0L),
+                new EmployeeView(2L, "Tony", "Stark", "ts@email.com", 0L)));
+
+        // when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/reactive/employees")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        // then - verify the output
+        response.expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.size()").isEqualTo(2);
+    }
+
+    // JUnit test for getEmployeeById method - positive
+    @DisplayName("JUnit test for getEmployeeById method - positive")
+    @Test
+    public void givenEmployeeId_whenGetEmployeeById_thenReturnEmployeeWithETag(){
+        // given - precondition or set up
+        EmployeeView employee = new EmployeeView(1L, "Naveen", "Kumar", "nk@email.com", 3L);
+        given(reactiveEmployeeService.getEmployeeById(1L)).willReturn(Mono.just(employee));
+
+        // when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/reactive/employees/{id}", 1L)
+                .exchange();
+
+        // then - verify the output
+        response.expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "W/\"3-json\"")
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo(employee.firstName());
+    }
+
+    // JUnit test for getEmployeeById method - CBOR representation
+    @DisplayName("JUnit test for getEmployeeById method - CBOR representation")
+    @Test
+    public void givenCborAccept_whenGetEmployeeById_thenReturnCborWithItsOwnETag(){
+        // given - precondition or set up
+        EmployeeView employee = new EmployeeView(1L, "Naveen", "Kumar", "nk@email.com", 3L);
+        given(reactiveEmployeeService.getEmployeeById(1L)).willReturn(Mono.just(employee));
+
+        // when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/reactive/employees/{id}", 1L)
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange();
+
+        // then - verify the output
+        response.expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "W/\"3-cbor\"");
+    }
+
+    // JUnit test for getEmployeeById method - unchanged version
+    @DisplayName("JUnit test for getEmployeeById method - unchanged version")
+    @Test
+    public void givenCurrentETag_whenGetEmployeeById_thenReturn304(){
+        // given - precondition or set up
+        EmployeeView employee = new EmployeeView(1L, "Naveen", "Kumar", "nk@email.com", 3L);
+        given(reactiveEmployeeService.getEmployeeById(1L)).willReturn(Mono.just(employee));
+
+        // when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/reactive/employees/{id}", 1L)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"3-json\"")
+                .exchange();
+
+        // then - verify the output
+        response.expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    // JUnit test for getEmployeeById method - negative
+    @DisplayName("JUnit test for getEmployeeById method - negative")
+    @Test
+    public void givenMissingEmployeeId_whenGetEmployeeById_thenReturn404(){
+        // given - precondition or set up
+        given(reactiveEmployeeService.getEmployeeById(1L)).willReturn(Mono.empty());
+
+        // when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/reactive/employees/{id}", 1L)
+                .exchange();
+
+        // then - verify the output
+        response.expectStatus().isNotFound();
+    }
+
+    // JUnit test for updateEmployee method - stale If-Match
+    @DisplayName("JUnit test for updateEmployee method - stale If-Match")
+    @Test
+    public void givenStaleIfMatch_whenUpdateEmployee_thenReturn412(){
+        // given - precondition or set up
+        Employee updatedEmployee = Employee.builder()
+                .firstName("UpdatedNaveen")
+                .lastName("UpdatedKumar")
+                .email("updated@email.com")
+                .build();
+        given(reactiveEmployeeService.updateEmployee(ArgumentMatchers.eq(1L), ArgumentMatchers.eq(3L),
+                ArgumentMatchers.any(Employee.class)))
+                .willReturn(Mono.error(new OptimisticLockingFailureException("stale")));
+
+        // when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.put().uri("/api/reactive/employees/{id}", 1L)
+                .header(HttpHeaders.IF_MATCH, "W/\"3-json\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updatedEmployee)
+                .exchange();
+
+        // then - verify the output
+        response.expectStatus().isEqualTo(412);
+    }
+}
@@ -4,26 +4,60 @@ import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.MySQLContainer;
 
+// MySQL in a container, or an existing MySQL server where Docker is not available:
+// mvn test -Dtest.mysql.url=jdbc:mysql://localhost:3306/junit -Dtest.mysql.username=root -Dtest.mysql.password=root
+// (the account needs to be allowed to create databases)
 public abstract class AbstractContainerBaseTest {
 
+    static final String EXTERNAL_URL = System.getProperty("test.mysql.url");
+
     static final MySQLContainer MY_SQL_CONTAINER;
 
     static{
-        MY_SQL_CONTAINER = new MySQLContainer<>("mysql:latest")
-                .withUsername("username")
-                .withPassword("password")
-                .withDatabaseName("ems");
-
-        MY_SQL_CONTAINER.start();
-
+        if(EXTERNAL_URL == null){
+            MY_SQL_CONTAINER = new MySQLContainer<>("mysql:latest")
+                    .withUsername("username")
+                    .withPassword("password")
+                    .withDatabaseName("ems");
+
+            MY_SQL_CONTAINER.start();
+        } else {
+            MY_SQL_CONTAINER = null;
+        }
     }
 
 
     @DynamicPropertySource
     public static void dynamicPropertySource(DynamicPropertyRegistry registry){
-        registry.add("spring.datasource.url",MY_SQL_CONTAINER::getJdbcUrl);
-        registry.add("spring.datasource.username",MY_SQL_CONTAINER::getUsername);
-        registry.add("spring.datasource.password",MY_SQL_CONTAINER::getPassword);
+        registry.add("spring.datasource.url",AbstractContainerBaseTest::jdbcUrl);
+        registry.add("spring.datasource.username",AbstractContainerBaseTest::username);
+        registry.add("spring.datasource.password",AbstractContainerBaseTest::password);
+    }
+
+    static String jdbcUrl(){
+        return EXTERNAL_URL != null ? EXTERNAL_URL : MY_SQL_CONTAINER.getJdbcUrl();
+    }
+
+    static String username(){
+        return EXTERNAL_URL != null ? System.getProperty("test.mysql.username", "root") : MY_SQL_CONTAINER.getUsername();
     }
-}
 
+    static String password(){
+        return EXTERNAL_URL != null ? System.getProperty("test.mysql.password", "") : MY_SQL_CONTAINER.getPassword();
+    }
+
+    // an account that may create databases: the container's root has the same password as its application user
+    static String adminUsername(){
+        return EXTERNAL_URL != null ? username() : "root";
+    }
+
+    // the same server and database for the non-blocking driver
+    static String r2dbcUrl(){
+        return "r2dbc:" + jdbcUrl().substring("jdbc:".length()).replaceFirst("\\?.*$", "") + "?sslMode=DISABLED";
+    }
+
+    // the same server with another database
+    static String jdbcUrl(String database){
+        return jdbcUrl().replaceFirst("/[^/?]*(\\?|$)", "/" + database + "$1");
+    }
+}
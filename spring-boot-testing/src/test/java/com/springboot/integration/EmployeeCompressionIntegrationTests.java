@@ -0,0 +1,133 @@
+package com.springboot.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.model.Employee;
+import com.springboot.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Real requests against the embedded Tomcat: MockMvc bypasses the connector, where HTTP/2 and compression live
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class EmployeeCompressionIntegrationTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private HttpClient client;
+
+    @BeforeEach
+    void setup(){
+        employeeRepository.deleteAllInBatch();
+        // plain http, the first request upgrades the connection to h2c
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .build();
+    }
+
+    // JUnit test for getAllEmployees over HTTP/2 with gzip
+    @DisplayName("JUnit test for getAllEmployees over HTTP/2 with gzip")
+    @Test
+    public void given10000Employees_whenGetAllEmployeesAcceptingGzip_thenGzippedOverHttp2() throws Exception{
+        // given - precondition or set up
+        saveEmployees(10_000);
+        HttpResponse<byte[]> plainResponse = get("/api/employees", "application/json", null);
+
+        // when - action or behaviour that we are going to test
+        HttpResponse<byte[]> response = get("/api/employees", "application/json", "gzip");
+
+        // then - verify the output
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.version()).isEqualTo(HttpClient.Version.HTTP_2);
+        assertThat(response.headers().firstValue("Content-Encoding")).contains("gzip");
+        assertThat(plainResponse.headers().firstValue("Content-Encoding")).isEmpty();
+        byte[] body = gunzip(response.body());
+        assertThat(body).isEqualTo(plainResponse.body());
+        assertThat(objectMapper.readTree(body).size()).isEqualTo(10_000);
+        // repeated field names and similar values: the listing shrinks to well under a fifth
+        assertThat(response.body().length).isLessThan(plainResponse.body().length / 5);
+    }
+
+    // JUnit test for a CBOR listing with gzip
+    @DisplayName("JUnit test for a CBOR listing with gzip")
+    @Test
+    public void givenEmployees_whenGetAllEmployeesAsCborAcceptingGzip_thenGzipped() throws Exception{
+        // given - precondition or set up
+        saveEmployees(100);
+
+        // when - action or behaviour that we are going to test
+        HttpResponse<byte[]> response = get("/api/employees", "application/cbor", "gzip");
+
+        // then - verify the output
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).contains("application/cbor");
+        assertThat(response.headers().firstValue("Content-Encoding")).contains("gzip");
+    }
+
+    // JUnit test for a response below the compression threshold
+    @DisplayName("JUnit test for a response below the compression threshold")
+    @Test
+    public void givenEmployee_whenGetEmployeeByIdAcceptingGzip_thenNotCompressed() throws Exception{
+        // given - precondition or set up
+        Employee employee = employeeRepository.save(Employee.builder()
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build());
+
+        // when - action or behaviour that we are going to test
+        HttpResponse<byte[]> response = get("/api/employees/" + employee.getId(), "application/json", "gzip");
+
+        // then - verify the output
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(objectMapper.readTree(response.body()).get("email").asText()).isEqualTo("nk@email.com");
+    }
+
+    private void saveEmployees(int count){
+        List<Employee> employees = IntStream.range(0, count)
+                .mapToObj(i -> Employee.builder()
+                        .firstName("First" + i)
+                        .lastName("Last" + i)
+                        .email("employee" + i + "@email.com")
+                        .build())
+                .toList();
+        employeeRepository.saveAll(employees);
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String acceptEncoding) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", accept);
+        if(acceptEncoding != null){
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try(GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))){
+            return in.readAllBytes();
+        }
+    }
+}
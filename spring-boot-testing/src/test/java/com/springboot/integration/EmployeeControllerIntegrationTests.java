@@ -3,6 +3,7 @@ package com.springboot.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springboot.model.Employee;
 import com.springboot.repository.EmployeeRepository;
+import com.springboot.support.SqlStatementCounter;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,7 +32,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.CoreMatchers.*;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = SqlStatementCounter.ENABLED)
 @AutoConfigureMockMvc
 public class EmployeeControllerIntegrationTests {
 
@@ -62,9 +63,12 @@ public class EmployeeControllerIntegrationTests {
                 .build();
 
         // when -- action or behavior that we are going to test
+        SqlStatementCounter.reset();
         ResultActions response = mockMvc.perform(post("/api/employees")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(employee)));
+        // no duplicate pre-check: the unique index rejects duplicates (id block allocation is not counted)
+        SqlStatementCounter.assertStatements(0, 1, 0, 0);
 
         // then - verify the result or the output assert statements
         response.andDo(print())
@@ -100,7 +104,9 @@ public class EmployeeControllerIntegrationTests {
         employeeRepository.saveAll(employeeList);
 
         // when - action or behaviour that we are going to test
+        SqlStatementCounter.reset();
         ResultActions response = mockMvc.perform(get("/api/employees"));
+        SqlStatementCounter.assertStatements(1, 0, 0, 0);
 
         // then - verify the output
         response.andExpect(status().isOk())
@@ -109,6 +115,44 @@ public class EmployeeControllerIntegrationTests {
                         is(employeeList.size())));
     }
 
+    // JUnit test for getEmployeesByIds Method
+    @DisplayName("JUnit test for getEmployeesByIds Method")
+    @Test
+    public void givenEmployeeIds_whenGetEmployeesByIds_thenOneQueryThenServedFromCache() throws Exception{
+
+        // given - precondition or set up
+        Employee employee = employeeRepository.save(Employee.builder()
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build());
+        Employee employee1 = employeeRepository.save(Employee.builder()
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("ts@email.com")
+                .build());
+        String ids = employee1.getId() + ",0," + employee.getId();
+
+        // when - action or behaviour that we are going to test
+        SqlStatementCounter.reset();
+        ResultActions response = mockMvc.perform(get("/api/employees").param("ids", ids));
+        SqlStatementCounter.assertStatements(1, 0, 0, 0);
+        SqlStatementCounter.reset();
+        ResultActions cachedResponse = mockMvc.perform(get("/api/employees").param("ids", ids));
+        // the miss is not cached, so only id 0 is looked up again
+        SqlStatementCounter.assertStatements(1, 0, 0, 0);
+
+        // then - verify the output
+        for(ResultActions result : List.of(response, cachedResponse)){
+            result.andExpect(status().isOk())
+                    .andDo(print())
+                    .andExpect(jsonPath("$.size()", is(3)))
+                    .andExpect(jsonPath("$[0].employee.email", is(employee1.getEmail())))
+                    .andExpect(jsonPath("$[1].status", is("NOT_FOUND")))
+                    .andExpect(jsonPath("$[2].employee.email", is(employee.getEmail())));
+        }
+    }
+
     // positive scenario - valid employee id
     // JUnit test for getEmployeeById method - positive
     @DisplayName("JUnit test for getEmployeeById method - positive")
@@ -123,7 +167,9 @@ public class EmployeeControllerIntegrationTests {
 
         employeeRepository.save(employee);
         // when - action or behaviour that we are going to test
+        SqlStatementCounter.reset();
         ResultActions response = mockMvc.perform(get("/api/employees/{id}",employee.getId()));
+        SqlStatementCounter.assertStatements(1, 0, 0, 0);
 
         // then - verify the output
         response.andExpect(status().isOk())
@@ -148,7 +194,9 @@ public class EmployeeControllerIntegrationTests {
         employeeRepository.save(employee);
 
         // when - action or behaviour that we are going to test
+        SqlStatementCounter.reset();
         ResultActions response = mockMvc.perform(get("/api/employees/{id}",0L));
+        SqlStatementCounter.assertStatements(1, 0, 0, 0);
 
         // then - verify the output
         response.andExpect(status().isNotFound())
@@ -175,9 +223,12 @@ public class EmployeeControllerIntegrationTests {
                 .build();
 
         // when - action or behaviour that we are going to test
+        SqlStatementCounter.reset();
         ResultActions response = mockMvc.perform(put("/api/employees/{id}",savedEmployee.getId())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updatedEmployee)));
+        // the If-Match lookup and the versioned UPDATE, the merge load is served by the second-level cache
+        SqlStatementCounter.assertStatements(1, 0, 1, 0);
 
         // then - verify the output
         response.andExpect(status().isOk())
@@ -216,6 +267,34 @@ public class EmployeeControllerIntegrationTests {
                 .andDo(print());
     }
 
+    // JUnit test for patchEmployee method - positive scenario
+    @DisplayName("JUnit test for patchEmployee method - positive scenario")
+    @Test
+    public void givenChangedEmail_whenPatchEmployee_thenOnlyEmailIsUpdated() throws Exception{
+        // given - precondition or set up
+        Employee savedEmployee = Employee.builder()
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build();
+
+        employeeRepository.save(savedEmployee);
+
+        // when - action or behaviour that we are going to test
+        SqlStatementCounter.reset();
+        ResultActions response = mockMvc.perform(patch("/api/employees/{id}",savedEmployee.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"updated@email.com\"}"));
+        SqlStatementCounter.assertStatements(0, 0, 1, 0);
+
+        // then - verify the output
+        response.andExpect(status().isNoContent())
+                .andDo(print());
+        Employee patchedEmployee = employeeRepository.findById(savedEmployee.getId()).get();
+        org.assertj.core.api.Assertions.assertThat(patchedEmployee.getEmail()).isEqualTo("updated@email.com");
+        org.assertj.core.api.Assertions.assertThat(patchedEmployee.getFirstName()).isEqualTo("Naveen");
+    }
+
     // JUnit test for deleteEmployee method
     @DisplayName("JUnit test for deleteEmployee method")
     @Test
@@ -230,7 +309,9 @@ public class EmployeeControllerIntegrationTests {
         employeeRepository.save(savedEmployee);
 
         // when - action or behaviour that we are going to test
+        SqlStatementCounter.reset();
         ResultActions response = mockMvc.perform(delete("/api/employees/{id}", savedEmployee.getId()));
+        SqlStatementCounter.assertStatements(0, 0, 0, 1);
 
         // then - verify the output
         response.andExpect(status().isOk())
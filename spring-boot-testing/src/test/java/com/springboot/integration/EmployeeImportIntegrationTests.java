@@ -0,0 +1,80 @@
+package com.springboot.integration;
+
+import com.springboot.model.EmployeeImportJob;
+import com.springboot.model.EmployeeImportReject;
+import com.springboot.repository.EmployeeImportJobRepository;
+import com.springboot.repository.EmployeeImportRejectRepository;
+import com.springboot.repository.EmployeeRepository;
+import com.springboot.service.EmployeeImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class EmployeeImportIntegrationTests extends AbstractContainerBaseTest {
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeImportJobRepository importJobRepository;
+
+    @Autowired
+    private EmployeeImportRejectRepository importRejectRepository;
+
+    @BeforeEach
+    void setup(){
+        employeeRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown(){
+        // committed rows would collide with the emails of other tests on the same database
+        employeeRepository.deleteAll();
+    }
+
+    // JUnit test for an import running in the background
+    @DisplayName("JUnit test for an import running in the background")
+    @Test
+    public void givenCsv_whenStartImport_thenJobIdIsReturnedAndJobCompletesInTheBackground() throws Exception{
+        // given - precondition or set up
+        String csv = "firstName,lastName,email\n"
+                + "Naveen,Kumar,nk@email.com\n"
+                + "Tony,Stark,\n";
+
+        // when - action or behaviour that we are going to test
+        EmployeeImportJob job = employeeImportService.startImport(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then - verify the output
+        assertThat(importJobRepository.findById(job.getId())).isPresent();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        EmployeeImportJob finished = job;
+        while(finished.getStatus() != EmployeeImportJob.Status.COMPLETED
+                && finished.getStatus() != EmployeeImportJob.Status.FAILED
+                && System.nanoTime() < deadline){
+            Thread.sleep(20);
+            finished = employeeImportService.getImportJob(job.getId()).orElseThrow();
+        }
+        assertThat(finished.getStatus()).isEqualTo(EmployeeImportJob.Status.COMPLETED);
+        assertThat(finished.getImportedRows()).isEqualTo(1);
+        assertThat(finished.getRejectedRows()).isEqualTo(1);
+        assertThat(employeeRepository.findAll()).extracting("email").containsExactly("nk@email.com");
+        assertThat(importRejectRepository.findByJobIdAndIdGreaterThanOrderByIdAsc(job.getId(), 0, Limit.of(10)))
+                .extracting(EmployeeImportReject::getLineNumber)
+                .containsExactly(3L);
+    }
+}
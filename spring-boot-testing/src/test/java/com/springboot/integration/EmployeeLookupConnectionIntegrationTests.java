@@ -0,0 +1,118 @@
+package com.springboot.integration;
+
+import com.springboot.config.CacheConfig;
+import com.springboot.dto.EmployeeView;
+import com.springboot.model.Employee;
+import com.springboot.repository.EmployeeRepository;
+import com.springboot.service.EmployeeService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+// callers waiting for a running getEmployeeById lookup must not hold a pooled connection each
+@SpringBootTest
+public class EmployeeLookupConnectionIntegrationTests extends AbstractContainerBaseTest {
+
+    private static final int CALLERS = 8;
+
+    @SpyBean
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private ExecutorService executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setup(){
+        employeeRepository.deleteAll();
+        cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).clear();
+        executor = Executors.newFixedThreadPool(CALLERS);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown(){
+        release.countDown();
+        executor.shutdownNow();
+        // committed rows would collide with the emails of other tests on the same database
+        employeeRepository.deleteAll();
+    }
+
+    // JUnit test for a burst of getEmployeeById calls for one employee
+    @DisplayName("JUnit test for a burst of getEmployeeById calls for one employee")
+    @Test
+    public void givenRunningLookup_whenBurstOfGetEmployeeById_thenOnlyTheLoadingCallerHoldsAConnection() throws Exception{
+        // given - precondition or set up
+        Employee employee = employeeRepository.save(Employee.builder()
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build());
+        CountDownLatch querying = new CountDownLatch(1);
+        // the spy of a repository proxy delegates to it by default, there is no real method to call
+        Answer<?> repositoryProxy = mockingDetails(employeeRepository).getMockCreationSettings().getDefaultAnswer();
+        // the SELECT has run, its transaction and connection stay open until released
+        willAnswer(invocation -> {
+            Object result = repositoryProxy.answer(invocation);
+            querying.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return result;
+        }).given(employeeRepository).findViewById(employee.getId());
+        double coalescedBefore = meterRegistry.counter("employee.lookup.coalesced").count();
+
+        // when - action or behaviour that we are going to test
+        List<Future<Optional<EmployeeView>>> lookups = new ArrayList<>();
+        lookups.add(executor.submit(() -> employeeService.getEmployeeById(employee.getId())));
+        assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+        for(int i = 1; i < CALLERS; i++){
+            lookups.add(executor.submit(() -> employeeService.getEmployeeById(employee.getId())));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(meterRegistry.counter("employee.lookup.coalesced").count() - coalescedBefore < CALLERS - 1
+                && System.nanoTime() < deadline){
+            Thread.sleep(1);
+        }
+        int activeDuringBurst = ((HikariDataSource) dataSource).getHikariPoolMXBean().getActiveConnections();
+        release.countDown();
+
+        // then - verify the output
+        assertThat(meterRegistry.counter("employee.lookup.coalesced").count() - coalescedBefore).isEqualTo(CALLERS - 1);
+        assertThat(activeDuringBurst).isEqualTo(1);
+        for(Future<Optional<EmployeeView>> lookup : lookups){
+            assertThat(lookup.get(5, TimeUnit.SECONDS)).map(EmployeeView::email).contains("nk@email.com");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.springboot.integration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// runs the Flyway migrations the way the application does (baseline-on-migrate, baseline version 0) on a database
+// of its own, once on an empty one and once on a schema left behind by ddl-auto
+public class EmployeeSchemaMigrationIntegrationTests extends AbstractContainerBaseTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup(){
+        String database = "migration_" + UUID.randomUUID().toString().replace("-", "");
+        new JdbcTemplate(new DriverManagerDataSource(jdbcUrl(), adminUsername(), password()))
+                .execute("create database " + database);
+        dataSource = new DriverManagerDataSource(jdbcUrl(database), adminUsername(), password());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    private void migrate(){
+        Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+    }
+
+    // JUnit test for the migrations on an empty database
+    @DisplayName("JUnit test for the migrations on an empty database")
+    @Test
+    public void givenEmptyDatabase_whenMigrate_thenSchemaIsCreated(){
+        // given - precondition or set up
+
+        // when - action or behaviour that we are going to test
+        migrate();
+
+        // then - verify the output
+        assertThat(columnExists("employees", "version")).isTrue();
+        assertThat(constraintExists("employees", "uk_employees_email")).isTrue();
+        assertThat(jdbcTemplate.queryForObject("select next_val from employees_seq", Long.class)).isEqualTo(1L);
+    }
+
+    // JUnit test for the migrations on a schema created by ddl-auto
+    @DisplayName("JUnit test for the migrations on a schema created by ddl-auto")
+    @Test
+    public void givenDdlAutoSchema_whenMigrate_thenSchemaIsAdopted(){
+        // given - precondition or set up
+        jdbcTemplate.execute("create table employees (id bigint not null auto_increment, email varchar(255),"
+                + " first_name varchar(255), last_name varchar(255), primary key (id)) engine=InnoDB");
+        jdbcTemplate.execute("create table employees_seq (next_val bigint) engine=InnoDB");
+        jdbcTemplate.execute("insert into employees_seq values (1)");
+        jdbcTemplate.execute("insert into employees (id, email, first_name, last_name)"
+                + " values (1, 'nk@email.com', 'Naveen', 'Kumar'), (120, 'ts@email.com', 'Tony', 'Stark')");
+
+        // when - action or behaviour that we are going to test
+        migrate();
+
+        // then - verify the output
+        assertThat(columnExists("employees", "version")).isTrue();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from employees where version = 0", Long.class)).isEqualTo(2L);
+        assertThat(constraintExists("employees", "uk_employees_email")).isTrue();
+        assertThatThrownBy(() -> jdbcTemplate.execute("insert into employees (id, email, first_name, last_name, version)"
+                + " values (500, 'nk@email.com', 'John', 'Cena', 0)"))
+                .isInstanceOf(DuplicateKeyException.class);
+        // the first pooled block, next_val - 49 .. next_val, starts above the existing ids
+        assertThat(jdbcTemplate.queryForObject("select next_val from employees_seq", Long.class) - 49).isGreaterThan(120L);
+    }
+
+    private boolean columnExists(String table, String column){
+        return jdbcTemplate.queryForObject("select count(*) from information_schema.columns"
+                + " where table_schema = database() and table_name = ? and column_name = ?", Long.class, table, column) > 0;
+    }
+
+    private boolean constraintExists(String table, String constraint){
+        return jdbcTemplate.queryForObject("select count(*) from information_schema.table_constraints"
+                + " where table_schema = database() and table_name = ? and constraint_name = ?", Long.class, table, constraint) > 0;
+    }
+}
@@ -0,0 +1,98 @@
+package com.springboot.integration;
+
+import com.springboot.model.Employee;
+import com.springboot.repository.EmployeeRepository;
+import com.springboot.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = SqlStatementCounter.ENABLED)
+public class EmployeeSecondLevelCacheIntegrationTests extends AbstractContainerBaseTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setup(){
+        employeeRepository.deleteAll();
+        employee = employeeRepository.save(Employee.builder()
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build());
+    }
+
+    // JUnit test for findById served from the second-level cache
+    @DisplayName("JUnit test for findById served from the second-level cache")
+    @Test
+    public void givenSavedEmployee_whenFindById_thenNoSql(){
+        // given - precondition or set up
+
+        // when - action or behaviour that we are going to test
+        SqlStatementCounter.reset();
+        Optional<Employee> foundEmployee = employeeRepository.findById(employee.getId());
+
+        // then - verify the output
+        SqlStatementCounter.assertStatements(0, 0, 0, 0);
+        assertThat(foundEmployee).map(Employee::getEmail).contains("nk@email.com");
+    }
+
+    // JUnit test for repeated finder queries served from the query cache
+    @DisplayName("JUnit test for repeated finder queries served from the query cache")
+    @Test
+    public void givenRepeatedFinders_whenFind_thenOnlyTheFirstLookupRunsSql(){
+        // given - precondition or set up
+        SqlStatementCounter.reset();
+        employeeRepository.findByEmail("nk@email.com");
+        employeeRepository.findByJPQL("Naveen", "Kumar");
+        employeeRepository.findByNativeSQL("Naveen", "Kumar");
+        SqlStatementCounter.assertStatements(3, 0, 0, 0);
+
+        // when - action or behaviour that we are going to test
+        SqlStatementCounter.reset();
+        Optional<Employee> byEmail = employeeRepository.findByEmail("nk@email.com");
+        Employee byJpql = employeeRepository.findByJPQL("Naveen", "Kumar");
+        Employee byNativeSql = employeeRepository.findByNativeSQL("Naveen", "Kumar");
+
+        // then - verify the output
+        SqlStatementCounter.assertStatements(0, 0, 0, 0);
+        assertThat(byEmail).map(Employee::getId).contains(employee.getId());
+        assertThat(byJpql.getId()).isEqualTo(employee.getId());
+        assertThat(byNativeSql.getId()).isEqualTo(employee.getId());
+    }
+
+    // JUnit test for cached finder results after save and deleteById
+    @DisplayName("JUnit test for cached finder results after save and deleteById")
+    @Test
+    public void givenCachedFinders_whenSaveAndDeleteById_thenNoStaleResults(){
+        // given - precondition or set up
+        employeeRepository.findByEmail("nk@email.com");
+        employeeRepository.findByEmail("updated@email.com");
+        employeeRepository.findByNativeSQL("Naveen", "Kumar");
+
+        // when - action or behaviour that we are going to test
+        employee.setEmail("updated@email.com");
+        employee = employeeRepository.save(employee);
+
+        // then - verify the output
+        assertThat(employeeRepository.findByEmail("nk@email.com")).isEmpty();
+        assertThat(employeeRepository.findByEmail("updated@email.com")).map(Employee::getId).contains(employee.getId());
+        assertThat(employeeRepository.findByNativeSQL("Naveen", "Kumar").getEmail()).isEqualTo("updated@email.com");
+        assertThat(employeeRepository.findById(employee.getId())).map(Employee::getVersion).contains(1L);
+
+        employeeRepository.deleteById(employee.getId());
+
+        assertThat(employeeRepository.findById(employee.getId())).isEmpty();
+        assertThat(employeeRepository.findByEmail("updated@email.com")).isEmpty();
+        assertThat(employeeRepository.findByNativeSQL("Naveen", "Kumar")).isNull();
+    }
+}
@@ -0,0 +1,180 @@
+package com.springboot.integration;
+
+import com.springboot.config.ReactiveServer;
+import com.springboot.dto.EmployeeView;
+import com.springboot.model.Employee;
+import com.springboot.repository.EmployeeRepository;
+import com.springboot.service.EmployeeService;
+import com.springboot.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ReactiveEmployeeIntegrationTests extends AbstractContainerBaseTest {
+
+    @DynamicPropertySource
+    public static void reactivePropertySource(DynamicPropertyRegistry registry){
+        registry.add("app.reactive.url",AbstractContainerBaseTest::r2dbcUrl);
+        registry.add("app.reactive.username",AbstractContainerBaseTest::username);
+        registry.add("app.reactive.password",AbstractContainerBaseTest::password);
+    }
+
+    @Autowired
+    private ReactiveEmployeeService reactiveEmployeeService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ReactiveServer reactiveServer;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setup(){
+        employeeRepository.deleteAll();
+    }
+
+    // JUnit test for ids allocated by both stacks
+    @DisplayName("JUnit test for ids allocated by both stacks")
+    @Test
+    public void givenBlockingAndReactiveInserts_whenSaveEmployee_thenIdsNeverCollide(){
+        // given - precondition or set up
+        Employee blockingEmployee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build());
+
+        // when - action or behaviour that we are going to test
+        Employee reactiveEmployee = reactiveEmployeeService.saveEmployee(Employee.builder()
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("ts@email.com")
+                .build()).block();
+        Employee nextBlockingEmployee = employeeService.saveEmployee(Employee.builder()
+                .firstName("John")
+                .lastName("Cena")
+                .email("jc@email.com")
+                .build());
+
+        // then - verify the output
+        assertThat(reactiveEmployee.getId()).isNotIn(blockingEmployee.getId(), nextBlockingEmployee.getId());
+        assertThat(employeeService.getEmployeeById(reactiveEmployee.getId()))
+                .map(EmployeeView::email)
+                .contains("ts@email.com");
+    }
+
+    // JUnit test for streaming all employees
+    @DisplayName("JUnit test for streaming all employees")
+    @Test
+    public void givenEmployees_whenGetAllEmployees_thenEmitInIdOrder(){
+        // given - precondition or set up
+        employeeService.saveEmployee(Employee.builder().firstName("Naveen").lastName("Kumar").email("nk@email.com").build());
+        employeeService.saveEmployee(Employee.builder().firstName("Tony").lastName("Stark").email("ts@email.com").build());
+
+        // when - action or behaviour that we are going to test
+        // then - verify the output
+        StepVerifier.create(reactiveEmployeeService.getAllEmployees().map(EmployeeView::email), 1)
+                .expectNext("nk@email.com")
+                .thenRequest(1)
+                .expectNext("ts@email.com")
+                .verifyComplete();
+    }
+
+    // JUnit test for updateEmployee method with a stale version
+    @DisplayName("JUnit test for updateEmployee method with a stale version")
+    @Test
+    public void givenStaleVersion_whenUpdateEmployee_thenFailWithOptimisticLock(){
+        // given - precondition or set up
+        Employee savedEmployee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build());
+        Employee changes = Employee.builder()
+                .firstName("UpdatedNaveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build();
+        reactiveEmployeeService.updateEmployee(savedEmployee.getId(), 0L, changes).block();
+
+        // when - action or behaviour that we are going to test
+        // then - verify the output
+        StepVerifier.create(reactiveEmployeeService.updateEmployee(savedEmployee.getId(), 0L, changes))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+        assertThat(employeeService.getEmployeeById(savedEmployee.getId()))
+                .map(EmployeeView::version)
+                .contains(1L);
+    }
+
+    // JUnit test for saveEmployee method with a missing field
+    @DisplayName("JUnit test for saveEmployee method with a missing field")
+    @Test
+    public void givenMissingLastName_whenSaveEmployee_thenNullIsBoundAndRejectedByDatabase(){
+        // given - precondition or set up
+        Employee employee = Employee.builder()
+                .firstName("Naveen")
+                .email("nk@email.com")
+                .build();
+
+        // when - action or behaviour that we are going to test
+        // then - verify the output
+        StepVerifier.create(reactiveEmployeeService.saveEmployee(employee))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+        assertThat(employeeService.getAllEmployees()).isEmpty();
+    }
+
+    // JUnit test for the reactive API served by Netty next to Tomcat
+    @DisplayName("JUnit test for the reactive API served by Netty next to Tomcat")
+    @Test
+    public void givenEmployees_whenGetAllEmployeesFromReactiveServer_thenStreamNdjsonFromNetty(){
+        // given - precondition or set up
+        employeeService.saveEmployee(Employee.builder().firstName("Naveen").lastName("Kumar").email("nk@email.com").build());
+        employeeService.saveEmployee(Employee.builder().firstName("Tony").lastName("Stark").email("ts@email.com").build());
+        WebTestClient reactiveClient = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveServer.getPort())
+                .build();
+        WebTestClient servletClient = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + port)
+                .build();
+
+        // when - action or behaviour that we are going to test
+        Flux<EmployeeView> employees = reactiveClient.get().uri("/api/reactive/employees")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .returnResult(EmployeeView.class)
+                .getResponseBody();
+
+        // then - verify the output
+        assertThat(reactiveServer.getPort()).isNotEqualTo(port);
+        StepVerifier.create(employees.map(EmployeeView::email))
+                .expectNext("nk@email.com", "ts@email.com")
+                .verifyComplete();
+        servletClient.get().uri("/api/reactive/employees")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,85 @@
+package com.springboot.integration;
+
+import com.springboot.dto.EmployeeView;
+import com.springboot.model.Employee;
+import com.springboot.service.EmployeeService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// two independent instances stand in for a primary and its replica, so each side's rows show where a query ran
+@SpringBootTest
+public class ReadReplicaRoutingIntegrationTests {
+
+    static final MySQLContainer PRIMARY;
+    static final MySQLContainer REPLICA;
+
+    static{
+        PRIMARY = new MySQLContainer<>("mysql:latest")
+                .withUsername("username")
+                .withPassword("password")
+                .withDatabaseName("ems");
+        REPLICA = new MySQLContainer<>("mysql:latest")
+                .withUsername("username")
+                .withPassword("password")
+                .withDatabaseName("ems");
+
+        PRIMARY.start();
+        REPLICA.start();
+
+        // the application only migrates the primary
+        Flyway.configure()
+                .dataSource(REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @DynamicPropertySource
+    public static void dynamicPropertySource(DynamicPropertyRegistry registry){
+        registry.add("spring.datasource.url",PRIMARY::getJdbcUrl);
+        registry.add("spring.datasource.username",PRIMARY::getUsername);
+        registry.add("spring.datasource.password",PRIMARY::getPassword);
+        registry.add("app.datasource.replica.jdbc-url",REPLICA::getJdbcUrl);
+        registry.add("app.datasource.replica.username",REPLICA::getUsername);
+        registry.add("app.datasource.replica.password",REPLICA::getPassword);
+    }
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    // JUnit test for routing writes to the primary and reads to the replica
+    @DisplayName("JUnit test for routing writes to the primary and reads to the replica")
+    @Test
+    public void givenPrimaryAndReplica_whenSaveThenGetAllEmployees_thenReadFromReplica(){
+        // given - precondition or set up
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(
+                REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword()));
+        replica.update("insert into employees (id, first_name, last_name, email, version) values (1000, 'Tony', 'Stark', 'ts@email.com', 0)");
+
+        // when - action or behaviour that we are going to test
+        Employee savedEmployee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build());
+        List<EmployeeView> employees = employeeService.getAllEmployees();
+
+        // then - verify the output
+        JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(
+                PRIMARY.getJdbcUrl(), PRIMARY.getUsername(), PRIMARY.getPassword()));
+        assertThat(primary.queryForObject("select count(*) from employees where id = ?", Long.class, savedEmployee.getId()))
+                .isEqualTo(1L);
+        assertThat(employees).extracting(EmployeeView::email).containsExactly("ts@email.com");
+    }
+}
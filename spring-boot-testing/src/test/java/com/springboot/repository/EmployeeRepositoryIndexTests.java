@@ -0,0 +1,76 @@
+package com.springboot.repository;
+
+import com.springboot.integration.AbstractContainerBaseTest;
+import com.springboot.model.Employee;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// checks the MySQL query plans of the finder queries against the indexes created by the Flyway migrations
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class EmployeeRepositoryIndexTests extends AbstractContainerBaseTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // seed emails unique per run, rows left behind on a shared database can never collide with them
+    private String suffix;
+
+    @BeforeEach
+    public void setup(){
+        // deleted inside the test transaction, so other tests' rows come back on rollback
+        employeeRepository.deleteAllInBatch();
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+        List<Employee> employees = new ArrayList<>();
+        for(int i = 0; i < 200; i++){
+            employees.add(Employee.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + (i % 20))
+                    .email("employee" + i + "-" + suffix + "@email.com")
+                    .build());
+        }
+        employeeRepository.saveAll(employees);
+        entityManager.flush();
+    }
+
+    private String explain(String sql){
+        return (String) entityManager.createNativeQuery("explain format=json " + sql).getSingleResult();
+    }
+
+    // JUnit test for the first/last name finder query plan
+    @DisplayName("JUnit test for the first/last name finder query plan")
+    @Test
+    public void givenNameFinderQuery_whenExplain_thenUsesNameIndex(){
+        // when - action or behaviour that we are going to test
+        String plan = explain("select * from employees e where e.first_name = 'First7' and e.last_name = 'Last7'");
+
+        // then - verify the output
+        assertThat(plan).contains("\"key\": \"idx_employees_last_first\"");
+        assertThat(plan).doesNotContain("\"access_type\": \"ALL\"");
+    }
+
+    // JUnit test for the email lookup query plan
+    @DisplayName("JUnit test for the email lookup query plan")
+    @Test
+    public void givenEmailQuery_whenExplain_thenUsesUniqueEmailIndex(){
+        // when - action or behaviour that we are going to test
+        String plan = explain("select * from employees e where e.email = 'employee7-" + suffix + "@email.com'");
+
+        // then - verify the output
+        assertThat(plan).contains("\"key\": \"" + Employee.EMAIL_UNIQUE_CONSTRAINT + "\"");
+    }
+}
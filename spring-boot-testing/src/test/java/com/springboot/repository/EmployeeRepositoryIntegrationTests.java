@@ -2,6 +2,7 @@ package com.springboot.repository;
 
 
 import com.springboot.integration.AbstractContainerBaseTest;
+import com.springboot.dto.EmployeeView;
 import com.springboot.model.Employee;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,9 +10,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -24,12 +27,18 @@ public class EmployeeRepositoryIntegrationTests  extends AbstractContainerBaseTe
 
     private Employee employee;
 
+    // seed emails unique per run, rows left behind on a shared database can never collide with them
+    private String suffix;
+
     @BeforeEach
     public void setup(){
+        // deleted inside the test transaction, so other tests' rows come back on rollback
+        employeeRepository.deleteAllInBatch();
+        suffix = UUID.randomUUID().toString().substring(0, 8);
          employee = Employee.builder()
                 .firstName("Naveen")
                 .lastName("Kumar")
-                .email("nk@email.com")
+                .email("nk-" + suffix + "@email.com")
                 .build();
     }
 
@@ -56,7 +65,7 @@ public class EmployeeRepositoryIntegrationTests  extends AbstractContainerBaseTe
         Employee employee2 = Employee.builder()
                 .firstName("John")
                 .lastName("Cena")
-                .email("jc@email.com")
+                .email("jc-" + suffix + "@email.com")
                 .build();
 
         employeeRepository.save(employee);
@@ -71,6 +80,29 @@ public class EmployeeRepositoryIntegrationTests  extends AbstractContainerBaseTe
 
     }
 
+    // JUnit test for keyset pagination operation
+    @DisplayName("JUnit test for keyset pagination operation")
+    @Test
+    public void givenEmployeesList_whenFindByIdGreaterThan_thenReturnNextPage(){
+        // given - precondition or set up
+        Employee employee2 = Employee.builder()
+                .firstName("John")
+                .lastName("Cena")
+                .email("jc-" + suffix + "@email.com")
+                .build();
+
+        employeeRepository.save(employee);
+        employeeRepository.save(employee2);
+
+        // when - action or behaviour that we are going to test
+        List<EmployeeView> employeeList = employeeRepository
+                .findViewsAfter(employee.getId(), PageRequest.of(0, 10));
+
+        // then - verify the output
+        assertThat(employeeList).hasSize(1);
+        assertThat(employeeList.get(0).id()).isEqualTo(employee2.getId());
+    }
+
     // JUnit test for get employee by id operation
     @DisplayName("JUnit test for get employee by id operation")
     @Test
@@ -107,13 +139,13 @@ public class EmployeeRepositoryIntegrationTests  extends AbstractContainerBaseTe
 
         // when - action or behaviour that we are going to test
         Employee savedEmployee = employeeRepository.findById(employee.getId()).get();
-        savedEmployee.setEmail("updatedemail@email.com");
+        savedEmployee.setEmail("updatedemail-" + suffix + "@email.com");
         savedEmployee.setLastName("UpdatedKumar");
 
         Employee updatedEmployee =  employeeRepository.save(savedEmployee);
 
         // then - verify the output
-        assertThat(updatedEmployee.getEmail()).isEqualTo("updatedemail@email.com");
+        assertThat(updatedEmployee.getEmail()).isEqualTo("updatedemail-" + suffix + "@email.com");
         assertThat(updatedEmployee.getLastName()).isEqualTo("UpdatedKumar");
     }
 
@@ -0,0 +1,190 @@
+package com.springboot.search;
+
+import com.springboot.dto.EmployeeView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeSearchIndexTests {
+
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    private EmployeeView naveen;
+    private EmployeeView tony;
+    private EmployeeView maryJane;
+
+    @BeforeEach
+    public void setup(){
+        naveen = new EmployeeView(1L, "Naveen", "Kumar", "nk@email.com", 0L);
+        tony = new EmployeeView(2L, "Tony", "Stark", "ts@email.com", 0L);
+        maryJane = new EmployeeView(3L, "Mary Jane", "Watson", "mj@email.com", 0L);
+        employeeSearchIndex = new EmployeeSearchIndex();
+        employeeSearchIndex.rebuild(Stream.of(naveen, tony, maryJane));
+    }
+
+    @AfterEach
+    public void tearDown(){
+        if(TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // JUnit test for search method on every indexed field
+    @DisplayName("JUnit test for search method on every indexed field")
+    @Test
+    public void givenPrefixes_whenSearch_thenMatchFirstNameLastNameAndEmail(){
+        // given - precondition or set up
+
+        // when - action or behaviour that we are going to test
+        // then - verify the output
+        assertThat(employeeSearchIndex.search("nav", 10)).containsExactly(naveen);
+        assertThat(employeeSearchIndex.search("STA", 10)).containsExactly(tony);
+        assertThat(employeeSearchIndex.search("mj@", 10)).containsExactly(maryJane);
+        assertThat(employeeSearchIndex.search("jane", 10)).containsExactly(maryJane);
+        assertThat(employeeSearchIndex.search("x", 10)).isEmpty();
+        assertThat(employeeSearchIndex.search("  ", 10)).isEmpty();
+    }
+
+    // JUnit test for search method with several terms
+    @DisplayName("JUnit test for search method with several terms")
+    @Test
+    public void givenSeveralTerms_whenSearch_thenEveryTermHasToMatch(){
+        // given - precondition or set up
+        employeeSearchIndex.put(new EmployeeView(4L, "Tony", "Kumar", "tk@email.com", 0L));
+
+        // when - action or behaviour that we are going to test
+        List<EmployeeView> employees = employeeSearchIndex.search("to ku", 10);
+
+        // then - verify the output
+        assertThat(employees).extracting(EmployeeView::id).containsExactly(4L);
+    }
+
+    // JUnit test for search method with a broad term and a selective one
+    @DisplayName("JUnit test for search method with a broad term and a selective one")
+    @Test
+    public void givenLongButBroadTerm_whenSearch_thenTheSelectiveTermDrivesTheScan(){
+        // given - precondition or set up
+        // more Smithsonians than a scan may examine, the one we look for sorts after all of them
+        employeeSearchIndex.rebuild(Stream.concat(
+                IntStream.range(0, EmployeeSearchIndex.MAX_CANDIDATES + 1000)
+                        .mapToObj(i -> new EmployeeView(10_000L + i, "Anna", "Smithsonian", "a" + i + "@email.com", 0L)),
+                Stream.of(new EmployeeView(99_999L, "John", "Smithsonian", "js@email.com", 0L))));
+
+        // when - action or behaviour that we are going to test
+        List<EmployeeView> employees = employeeSearchIndex.search("smithsonian jo", 10);
+
+        // then - verify the output
+        assertThat(employees).extracting(EmployeeView::id).containsExactly(99_999L);
+    }
+
+    // JUnit test for search method with only broad terms
+    @DisplayName("JUnit test for search method with only broad terms")
+    @Test
+    public void givenOnlyBroadTerms_whenSearch_thenStopAfterTheCandidateCap(){
+        // given - precondition or set up
+        // "anna" and "smithsonian" each cover more entries than the cap, their only common employee sorts last in both
+        employeeSearchIndex.rebuild(Stream.of(
+                IntStream.range(0, EmployeeSearchIndex.MAX_CANDIDATES + 1000)
+                        .mapToObj(i -> new EmployeeView(10_000L + i, "Anna", "Smith", "a" + i + "@email.com", 0L)),
+                IntStream.range(0, EmployeeSearchIndex.MAX_CANDIDATES + 1000)
+                        .mapToObj(i -> new EmployeeView(30_000L + i, "Bob", "Smithsonian", "b" + i + "@email.com", 0L)),
+                Stream.of(new EmployeeView(99_999L, "Anna", "Smithsonian", "as@email.com", 0L)))
+                .flatMap(employees -> employees));
+
+        // when - action or behaviour that we are going to test
+        List<EmployeeView> employees = employeeSearchIndex.search("anna smithsonian", 10);
+
+        // then - verify the output
+        assertThat(employees).isEmpty();
+        assertThat(employeeSearchIndex.search("anna smithsonian as@", 10)).extracting(EmployeeView::id)
+                .containsExactly(99_999L);
+    }
+
+    // JUnit test for search method with a limit
+    @DisplayName("JUnit test for search method with a limit")
+    @Test
+    public void givenManyMatches_whenSearch_thenReturnEachEmployeeOnceUpToTheLimit(){
+        // given - precondition or set up
+        employeeSearchIndex.put(new EmployeeView(5L, "Tom", "Tomlinson", "tom@email.com", 0L));
+
+        // when - action or behaviour that we are going to test
+        List<EmployeeView> employees = employeeSearchIndex.search("to", 2);
+
+        // then - verify the output
+        assertThat(employees).extracting(EmployeeView::id).containsExactly(5L, 2L);
+        assertThat(employeeSearchIndex.search("to", 1)).extracting(EmployeeView::id).containsExactly(5L);
+    }
+
+    // JUnit test for put method replacing an employee
+    @DisplayName("JUnit test for put method replacing an employee")
+    @Test
+    public void givenChangedName_whenPut_thenOldNameIsNoLongerFound(){
+        // given - precondition or set up
+        EmployeeView renamed = new EmployeeView(1L, "Ravi", "Kumar", "nk@email.com", 1L);
+
+        // when - action or behaviour that we are going to test
+        employeeSearchIndex.put(renamed);
+
+        // then - verify the output
+        assertThat(employeeSearchIndex.search("nav", 10)).isEmpty();
+        assertThat(employeeSearchIndex.search("kum", 10)).containsExactly(renamed);
+        assertThat(employeeSearchIndex.size()).isEqualTo(3);
+    }
+
+    // JUnit test for patch method
+    @DisplayName("JUnit test for patch method")
+    @Test
+    public void givenChangedEmail_whenPatch_thenOnlyEmailChanges(){
+        // given - precondition or set up
+
+        // when - action or behaviour that we are going to test
+        employeeSearchIndex.patch(2L, null, null, "ironman@email.com");
+
+        // then - verify the output
+        assertThat(employeeSearchIndex.search("iron", 10))
+                .containsExactly(new EmployeeView(2L, "Tony", "Stark", "ironman@email.com", 1L));
+        assertThat(employeeSearchIndex.search("ts@", 10)).isEmpty();
+    }
+
+    // JUnit test for remove and removeByLastName methods
+    @DisplayName("JUnit test for remove and removeByLastName methods")
+    @Test
+    public void givenDeletedEmployees_whenRemove_thenTheyAreNoLongerFound(){
+        // given - precondition or set up
+
+        // when - action or behaviour that we are going to test
+        employeeSearchIndex.remove(1L);
+        employeeSearchIndex.removeByLastName("stark");
+
+        // then - verify the output
+        assertThat(employeeSearchIndex.search("nav", 10)).isEmpty();
+        assertThat(employeeSearchIndex.search("tony", 10)).isEmpty();
+        assertThat(employeeSearchIndex.size()).isEqualTo(1);
+    }
+
+    // JUnit test for put method inside a transaction
+    @DisplayName("JUnit test for put method inside a transaction")
+    @Test
+    public void givenActiveTransaction_whenPut_thenChangeIsAppliedOnlyAfterCommit(){
+        // given - precondition or set up
+        TransactionSynchronizationManager.initSynchronization();
+        EmployeeView bruce = new EmployeeView(6L, "Bruce", "Wayne", "bw@email.com", 0L);
+
+        // when - action or behaviour that we are going to test
+        employeeSearchIndex.put(bruce);
+
+        // then - verify the output
+        assertThat(employeeSearchIndex.search("bru", 10)).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(employeeSearchIndex.search("bru", 10)).containsExactly(bruce);
+    }
+}
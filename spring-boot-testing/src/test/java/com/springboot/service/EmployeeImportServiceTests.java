@@ -0,0 +1,294 @@
+package com.springboot.service;
+
+import com.springboot.config.EmployeeProperties;
+import com.springboot.model.Employee;
+import com.springboot.model.EmployeeImportJob;
+import com.springboot.model.EmployeeImportReject;
+import com.springboot.repository.EmployeeImportJobRepository;
+import com.springboot.repository.EmployeeImportRejectRepository;
+import com.springboot.repository.EmployeeRepository;
+import com.springboot.search.EmployeeSearchIndex;
+import com.springboot.service.impl.EmployeeImportServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeImportServiceTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeImportJobRepository importJobRepository;
+
+    @Mock
+    private EmployeeImportRejectRepository importRejectRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private EmployeeProperties employeeProperties = new EmployeeProperties();
+
+    @Spy
+    private EmployeeSearchIndex employeeSearchIndex = new EmployeeSearchIndex();
+
+    @Mock
+    private TaskExecutor taskExecutor;
+
+    @Captor
+    private ArgumentCaptor<Runnable> importCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<Employee>> employeesCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<EmployeeImportReject>> rejectsCaptor;
+
+    @InjectMocks
+    private EmployeeImportServiceImpl employeeImportService;
+
+    @BeforeEach
+    public void setup(){
+        employeeProperties.setImportChunkSize(2);
+        // lenient: a refused resume never saves the job
+        lenient().when(importJobRepository.save(any(EmployeeImportJob.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static InputStream csv(String content){
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void runTransactionsInline(){
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    // JUnit test for startImport method
+    @DisplayName("JUnit test for startImport method")
+    @Test
+    public void givenCsv_whenStartImport_thenJobIsSavedBeforeTheImportRunsInTheBackground(){
+        // given - precondition or set up
+        runTransactionsInline();
+        given(employeeRepository.findExistingEmails(anyList())).willReturn(Set.of());
+        InputStream csv = csv("firstName,lastName,email\n"
+                + "Naveen,Kumar,nk@email.com\n");
+
+        // when - action or behaviour that we are going to test
+        EmployeeImportJob job = employeeImportService.startImport(csv, null);
+
+        // then - verify the output
+        assertThat(job.getStatus()).isEqualTo(EmployeeImportJob.Status.QUEUED);
+        verify(importJobRepository).save(job);
+        verify(transactionTemplate, never()).execute(any());
+
+        // the spooled upload is imported on the executor, into the job the caller already holds
+        verify(taskExecutor).execute(importCaptor.capture());
+        given(importJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        importCaptor.getValue().run();
+        assertThat(job.getStatus()).isEqualTo(EmployeeImportJob.Status.COMPLETED);
+        assertThat(job.getImportedRows()).isEqualTo(1);
+    }
+
+    // JUnit test for startImport method when the job is still running
+    @DisplayName("JUnit test for startImport method when the job is still running")
+    @Test
+    public void givenRunningJob_whenStartImport_thenThrowAndLeaveJobAlone(){
+        // given - precondition or set up
+        EmployeeImportJob runningJob = EmployeeImportJob.builder()
+                .id(7L)
+                .status(EmployeeImportJob.Status.RUNNING)
+                .build();
+        given(importJobRepository.findById(7L)).willReturn(Optional.of(runningJob));
+
+        // when - action or behaviour that we are going to test
+        // then - verify the output
+        assertThatThrownBy(() -> employeeImportService.startImport(csv("firstName,lastName,email\n"), 7L))
+                .isInstanceOf(IllegalStateException.class);
+        verify(importJobRepository, never()).save(any());
+        verify(taskExecutor, never()).execute(any());
+    }
+
+    // JUnit test for importEmployees method
+    @DisplayName("JUnit test for importEmployees method")
+    @Test
+    public void givenCsvWithInvalidAndDuplicateRows_whenImportEmployees_thenImportValidRowsAndRecordRejects(){
+        // given - precondition or set up
+        runTransactionsInline();
+        // the first chunk is committed before the second one checks its emails
+        given(employeeRepository.findExistingEmails(anyList()))
+                .willReturn(Set.of())
+                .willReturn(Set.of("nk@email.com"));
+
+        InputStream csv = csv("first_name,last_name,email\n"
+                + "Naveen,Kumar,nk@email.com\n"
+                + "\"Stark, Tony\",Stark,\n"
+                + "John,Cena,nk@email.com\n");
+
+        // when - action or behaviour that we are going to test
+        EmployeeImportJob job = employeeImportService.importEmployees(csv, null);
+
+        // then - verify the output
+        assertThat(job.getStatus()).isEqualTo(EmployeeImportJob.Status.COMPLETED);
+        assertThat(job.getProcessedRows()).isEqualTo(3);
+        assertThat(job.getImportedRows()).isEqualTo(1);
+        assertThat(job.getRejectedRows()).isEqualTo(2);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(entityManager, times(2)).clear();
+
+        verify(importRejectRepository, times(2)).saveAll(rejectsCaptor.capture());
+        assertThat(rejectsCaptor.getAllValues().get(0)).extracting(EmployeeImportReject::getLineNumber).containsExactly(3L);
+        assertThat(rejectsCaptor.getAllValues().get(1)).extracting(EmployeeImportReject::getLineNumber).containsExactly(4L);
+    }
+
+    // JUnit test for importEmployees method when resuming a job
+    @DisplayName("JUnit test for importEmployees method when resuming a job")
+    @Test
+    public void givenPartiallyCommittedJob_whenImportEmployees_thenSkipCommittedRows(){
+        // given - precondition or set up
+        runTransactionsInline();
+        EmployeeImportJob failedJob = EmployeeImportJob.builder()
+                .id(7L)
+                .status(EmployeeImportJob.Status.FAILED)
+                .processedRows(2)
+                .importedRows(2)
+                .build();
+        given(importJobRepository.findById(7L)).willReturn(Optional.of(failedJob));
+        given(employeeRepository.findExistingEmails(anyList())).willReturn(Set.of());
+
+        InputStream csv = csv("firstName,lastName,email\n"
+                + "Naveen,Kumar,nk@email.com\n"
+                + "Tony,Stark,ts@email.com\n"
+                + "John,Cena,jc@email.com\n");
+
+        // when - action or behaviour that we are going to test
+        EmployeeImportJob job = employeeImportService.importEmployees(csv, 7L);
+
+        // then - verify the output
+        assertThat(job.getStatus()).isEqualTo(EmployeeImportJob.Status.COMPLETED);
+        assertThat(job.getProcessedRows()).isEqualTo(3);
+        assertThat(job.getImportedRows()).isEqualTo(3);
+
+        verify(employeeRepository, times(1)).saveAll(employeesCaptor.capture());
+        assertThat(employeesCaptor.getValue()).extracting(Employee::getEmail).containsExactly("jc@email.com");
+    }
+
+    // JUnit test for importEmployees method with line breaks inside quoted fields
+    @DisplayName("JUnit test for importEmployees method with line breaks inside quoted fields")
+    @Test
+    public void givenQuotedFieldWithLineBreak_whenImportEmployees_thenParsedAsOneRow(){
+        // given - precondition or set up
+        runTransactionsInline();
+        given(employeeRepository.findExistingEmails(anyList())).willReturn(Set.of());
+
+        InputStream csv = csv("firstName,lastName,email\n"
+                + "\"Mary\nJane\",\"Watson \"\"MJ\"\"\",mj@email.com\n"
+                + "\"Tony\",Stark,\n");
+
+        // when - action or behaviour that we are going to test
+        EmployeeImportJob job = employeeImportService.importEmployees(csv, null);
+
+        // then - verify the output
+        assertThat(job.getStatus()).isEqualTo(EmployeeImportJob.Status.COMPLETED);
+        assertThat(job.getProcessedRows()).isEqualTo(2);
+        assertThat(job.getImportedRows()).isEqualTo(1);
+        verify(employeeRepository).saveAll(employeesCaptor.capture());
+        assertThat(employeesCaptor.getValue()).singleElement().satisfies(employee -> {
+            assertThat(employee.getFirstName()).isEqualTo("Mary\nJane");
+            assertThat(employee.getLastName()).isEqualTo("Watson \"MJ\"");
+        });
+        // the reject points at the line the record starts on, after the two lines of the first record
+        verify(importRejectRepository).saveAll(rejectsCaptor.capture());
+        assertThat(rejectsCaptor.getValue()).extracting(EmployeeImportReject::getLineNumber).containsExactly(4L);
+    }
+
+    // JUnit test for importEmployees method with a chunk that fails to commit
+    @DisplayName("JUnit test for importEmployees method with a chunk that fails to commit")
+    @Test
+    public void givenChunkRollback_whenImportEmployees_thenSearchIndexUnchanged(){
+        // given - precondition or set up
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null);
+            throw new DataIntegrityViolationException("Duplicate entry 'nk@email.com' for key 'uk_employees_email'");
+        });
+        given(employeeRepository.findExistingEmails(anyList())).willReturn(Set.of());
+        given(importJobRepository.findById(any())).willReturn(Optional.empty());
+
+        InputStream csv = csv("firstName,lastName,email\n"
+                + "Naveen,Kumar,nk@email.com\n");
+
+        // when - action or behaviour that we are going to test
+        EmployeeImportJob job = employeeImportService.importEmployees(csv, null);
+
+        // then - verify the output
+        assertThat(job.getStatus()).isEqualTo(EmployeeImportJob.Status.FAILED);
+        verify(employeeSearchIndex, never()).put(any());
+        assertThat(employeeSearchIndex.size()).isZero();
+    }
+
+    // JUnit test for importEmployees method with a bad header
+    @DisplayName("JUnit test for importEmployees method with a bad header")
+    @Test
+    public void givenCsvWithoutEmailColumn_whenImportEmployees_thenJobFails(){
+        // given - precondition or set up
+        InputStream csv = csv("firstName,lastName\nNaveen,Kumar\n");
+
+        // when - action or behaviour that we are going to test
+        EmployeeImportJob job = employeeImportService.importEmployees(csv, null);
+
+        // then - verify the output
+        assertThat(job.getStatus()).isEqualTo(EmployeeImportJob.Status.FAILED);
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    // JUnit test for importEmployees method with a failure message longer than its column
+    @DisplayName("JUnit test for importEmployees method with a failure message longer than its column")
+    @Test
+    public void givenLongFailureMessage_whenImportEmployees_thenMessageIsCutToColumnLength(){
+        // given - precondition or set up
+        given(transactionTemplate.execute(any()))
+                .willThrow(new DataIntegrityViolationException("x".repeat(EmployeeImportJob.MESSAGE_LENGTH * 5)));
+        given(importJobRepository.findById(any())).willReturn(Optional.empty());
+
+        InputStream csv = csv("firstName,lastName,email\n"
+                + "Naveen,Kumar,nk@email.com\n");
+
+        // when - action or behaviour that we are going to test
+        EmployeeImportJob job = employeeImportService.importEmployees(csv, null);
+
+        // then - verify the output
+        assertThat(job.getStatus()).isEqualTo(EmployeeImportJob.Status.FAILED);
+        assertThat(job.getMessage()).hasSize(EmployeeImportJob.MESSAGE_LENGTH);
+    }
+}
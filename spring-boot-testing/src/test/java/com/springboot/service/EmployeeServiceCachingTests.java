@@ -0,0 +1,347 @@
+package com.springboot.service;
+
+import com.springboot.config.CacheConfig;
+import com.springboot.config.EmployeeProperties;
+import com.springboot.dto.EmployeeLookupResult;
+import com.springboot.dto.EmployeeView;
+import com.springboot.model.Employee;
+import com.springboot.repository.EmployeeRepository;
+import com.springboot.search.EmployeeSearchIndex;
+import com.springboot.service.impl.EmployeeServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(classes = {CacheConfig.class, EmployeeServiceImpl.class, SimpleMeterRegistry.class, EmployeeSearchIndex.class,
+        EmployeeServiceCachingTests.TransactionConfig.class})
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+public class EmployeeServiceCachingTests {
+
+    @MockBean
+    private EmployeeRepository employeeRepository;
+
+    @MockBean
+    private EntityManager entityManager;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CommitHookTransactionManager transactionManager;
+
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup(){
+        cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).clear();
+        cacheManager.getCache(CacheConfig.EMPLOYEE_JSON_CACHE).clear();
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Naveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build();
+    }
+
+    // JUnit test for getEmployeeById method served from the cache
+    @DisplayName("JUnit test for getEmployeeById method served from the cache")
+    @Test
+    public void givenCachedEmployee_whenGetEmployeeById_thenRepositoryIsCalledOnce(){
+        // given - precondition or set up
+        given(employeeRepository.findViewById(1L)).willReturn(Optional.of(EmployeeView.of(employee)));
+
+        // when - action or behaviour that we are going to test
+        employeeService.getEmployeeById(1L);
+        Optional<EmployeeView> cachedEmployee = employeeService.getEmployeeById(1L);
+
+        // then - verify the output
+        assertThat(cachedEmployee).contains(EmployeeView.of(employee));
+        verify(employeeRepository, times(1)).findViewById(1L);
+    }
+
+    // JUnit test for updateEmployee method invalidating the cache
+    @DisplayName("JUnit test for updateEmployee method invalidating the cache")
+    @Test
+    public void givenCachedEmployee_whenUpdateEmployee_thenReadersSeeUpdatedEmployee(){
+        // given - precondition or set up
+        given(employeeRepository.save(any(Employee.class))).willAnswer(invocation -> invocation.getArgument(0));
+        Employee updatedEmployee = Employee.builder()
+                .id(1L)
+                .firstName("UpdatedNaveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build();
+
+        given(employeeRepository.findViewById(1L))
+                .willReturn(Optional.of(EmployeeView.of(employee)))
+                .willReturn(Optional.of(EmployeeView.of(updatedEmployee)));
+        employeeService.getEmployeeById(1L);
+
+        // when - action or behaviour that we are going to test
+        employeeService.updateEmployee(updatedEmployee);
+
+        // then - verify the output
+        assertThat(employeeService.getEmployeeById(1L).get().firstName()).isEqualTo("UpdatedNaveen");
+        verify(employeeRepository, times(2)).findViewById(1L);
+    }
+
+    // JUnit test for deleteEmployee method evicting the cache
+    @DisplayName("JUnit test for deleteEmployee method evicting the cache")
+    @Test
+    public void givenCachedEmployee_whenDeleteEmployee_thenNextReadGoesToRepository(){
+        // given - precondition or set up
+        given(employeeRepository.findViewById(1L))
+                .willReturn(Optional.of(EmployeeView.of(employee)))
+                .willReturn(Optional.empty());
+        employeeService.getEmployeeById(1L);
+
+        // when - action or behaviour that we are going to test
+        employeeService.deleteEmployee(1L);
+
+        // then - verify the output
+        assertThat(employeeService.getEmployeeById(1L)).isEmpty();
+        verify(employeeRepository, times(2)).findViewById(1L);
+    }
+
+    // JUnit test for patchEmployee method evicting the encoded JSON
+    @DisplayName("JUnit test for patchEmployee method evicting the encoded JSON")
+    @Test
+    public void givenEncodedEmployee_whenPatchEmployee_thenJsonIsEvicted(){
+        // given - precondition or set up
+        cacheManager.getCache(CacheConfig.EMPLOYEE_JSON_CACHE).put(1L, new byte[0]);
+        given(employeeRepository.patchById(1L, null, "UpdatedNaveen", null, null)).willReturn(1);
+
+        // when - action or behaviour that we are going to test
+        employeeService.patchEmployee(1L, null, Employee.builder().firstName("UpdatedNaveen").build());
+
+        // then - verify the output
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEE_JSON_CACHE).get(1L)).isNull();
+    }
+
+    // JUnit test for a read racing the commit of patchEmployee
+    @DisplayName("JUnit test for a read racing the commit of patchEmployee")
+    @Test
+    public void givenReadBeforePatchCommits_whenPatchEmployee_thenOldRowIsNotLeftInCache() throws Exception{
+        // given - precondition or set up
+        Employee patchedEmployee = Employee.builder()
+                .id(1L)
+                .firstName("UpdatedNaveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build();
+        given(employeeRepository.patchById(1L, null, "UpdatedNaveen", null, null)).willReturn(1);
+        // the reader still sees the committed, old row
+        given(employeeRepository.findViewById(1L))
+                .willReturn(Optional.of(EmployeeView.of(employee)))
+                .willReturn(Optional.of(EmployeeView.of(patchedEmployee)));
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        transactionManager.onNextCommit(() -> {
+            try {
+                reader.submit(() -> employeeService.getEmployeeById(1L)).get(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // when - action or behaviour that we are going to test
+        employeeService.patchEmployee(1L, null, Employee.builder().firstName("UpdatedNaveen").build());
+        reader.shutdown();
+
+        // then - verify the output
+        assertThat(employeeService.getEmployeeById(1L).get().firstName()).isEqualTo("UpdatedNaveen");
+        verify(employeeRepository, times(2)).findViewById(1L);
+    }
+
+    // JUnit test for a lookup that read the row before patchEmployee committed
+    @DisplayName("JUnit test for a lookup that read the row before patchEmployee committed")
+    @Test
+    public void givenLookupRunningDuringPatch_whenLookupCompletes_thenOldRowIsNotCached() throws Exception{
+        // given - precondition or set up
+        Employee patchedEmployee = Employee.builder()
+                .id(1L)
+                .firstName("UpdatedNaveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build();
+        given(employeeRepository.patchById(1L, null, "UpdatedNaveen", null, null)).willReturn(1);
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(employeeRepository.findViewById(1L))
+                .willAnswer(invocation -> {
+                    querying.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Optional.of(EmployeeView.of(employee));
+                })
+                .willReturn(Optional.of(EmployeeView.of(patchedEmployee)));
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        Future<Optional<EmployeeView>> loading = readers.submit(() -> employeeService.getEmployeeById(1L));
+        assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Optional<EmployeeView>> joined = readers.submit(() -> employeeService.getEmployeeById(1L));
+        while(meterRegistry.counter("employee.lookup.coalesced").count() < 1){
+            Thread.sleep(1);
+        }
+
+        // when - action or behaviour that we are going to test
+        employeeService.patchEmployee(1L, null, Employee.builder().firstName("UpdatedNaveen").build());
+        release.countDown();
+
+        // then - verify the output
+        // both reads started before the commit, the old row is a correct answer for them but must not be cached
+        assertThat(loading.get(5, TimeUnit.SECONDS).get().firstName()).isEqualTo("Naveen");
+        assertThat(joined.get(5, TimeUnit.SECONDS).get().firstName()).isEqualTo("Naveen");
+        readers.shutdown();
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).get(1L)).isNull();
+        assertThat(employeeService.getEmployeeById(1L).get().firstName()).isEqualTo("UpdatedNaveen");
+        verify(employeeRepository, times(2)).findViewById(1L);
+    }
+
+    // JUnit test for a multi-get that read the row before patchEmployee committed
+    @DisplayName("JUnit test for a multi-get that read the row before patchEmployee committed")
+    @Test
+    public void givenMultiGetRunningDuringPatch_whenMultiGetCompletes_thenOldRowIsNotCached() throws Exception{
+        // given - precondition or set up
+        Employee patchedEmployee = Employee.builder()
+                .id(1L)
+                .firstName("UpdatedNaveen")
+                .lastName("Kumar")
+                .email("nk@email.com")
+                .build();
+        given(employeeRepository.patchById(1L, null, "UpdatedNaveen", null, null)).willReturn(1);
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(employeeRepository.findViewsByIdIn(List.of(1L))).willAnswer(invocation -> {
+            querying.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(EmployeeView.of(employee));
+        });
+        given(employeeRepository.findViewById(1L)).willReturn(Optional.of(EmployeeView.of(patchedEmployee)));
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        Future<List<EmployeeLookupResult>> loading = reader.submit(() -> employeeService.getEmployeesByIds(List.of(1L)));
+        assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - action or behaviour that we are going to test
+        employeeService.patchEmployee(1L, null, Employee.builder().firstName("UpdatedNaveen").build());
+        release.countDown();
+
+        // then - verify the output
+        // the multi-get started before the commit, the old row is a correct answer for it but must not be cached
+        assertThat(loading.get(5, TimeUnit.SECONDS).get(0).getEmployee().firstName()).isEqualTo("Naveen");
+        reader.shutdown();
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).get(1L)).isNull();
+        assertThat(employeeService.getEmployeeById(1L).get().firstName()).isEqualTo("UpdatedNaveen");
+    }
+
+    // JUnit test for the transactions that fill the cache
+    @DisplayName("JUnit test for the transactions that fill the cache")
+    @Test
+    public void givenCacheMiss_whenGetEmployeeByIdOrByIds_thenLoadedInReadWriteTransactions(){
+        // given - precondition or set up
+        given(employeeRepository.findViewById(1L)).willReturn(Optional.of(EmployeeView.of(employee)));
+        given(employeeRepository.findViewsByIdIn(List.of(2L))).willReturn(List.of());
+        transactionManager.readOnlyFlags.clear();
+
+        // when - action or behaviour that we are going to test
+        employeeService.getEmployeeById(1L);
+        employeeService.getEmployeesByIds(List.of(2L));
+
+        // then - verify the output
+        // a read-only transaction could be routed to a lagging replica and cache its copy
+        assertThat(transactionManager.readOnlyFlags).containsExactly(false, false);
+    }
+
+    // transactions wrap the cache interceptor, so @CacheEvict runs before the commit unless the cache defers it
+    @Configuration
+    @EnableTransactionManagement(order = Ordered.HIGHEST_PRECEDENCE)
+    static class TransactionConfig {
+
+        @Bean
+        public CommitHookTransactionManager transactionManager(){
+            return new CommitHookTransactionManager();
+        }
+
+        // the defaults, a mock would make readers give up on a running lookup at once
+        @Bean
+        public EmployeeProperties employeeProperties(){
+            return new EmployeeProperties();
+        }
+
+        @Bean
+        public TransactionTemplate transactionTemplate(CommitHookTransactionManager transactionManager){
+            return new TransactionTemplate(transactionManager);
+        }
+    }
+
+    // no resources behind it, runs a hook between the statements of a transaction and its commit,
+    // the point where another reader can still load the old row
+    static class CommitHookTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final AtomicReference<Runnable> nextCommit = new AtomicReference<>();
+
+        // the read-only flag of every transaction begun, in order
+        final List<Boolean> readOnlyFlags = new CopyOnWriteArrayList<>();
+
+        void onNextCommit(Runnable hook) {
+            nextCommit.set(hook);
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            readOnlyFlags.add(definition.isReadOnly());
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            Runnable hook = nextCommit.getAndSet(null);
+            if(hook != null){
+                hook.run();
+            }
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
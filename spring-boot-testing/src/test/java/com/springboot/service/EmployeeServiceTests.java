@@ -1,9 +1,17 @@
 package com.springboot.service;
 
+import com.springboot.config.CacheConfig;
+import com.springboot.config.EmployeeProperties;
+import com.springboot.dto.EmployeeBatchResult;
+import com.springboot.dto.EmployeeLookupResult;
+import com.springboot.dto.EmployeePage;
+import com.springboot.dto.EmployeeView;
 import com.springboot.exception.ResourceNotFoundException;
 import com.springboot.model.Employee;
 import com.springboot.repository.EmployeeRepository;
+import com.springboot.search.EmployeeSearchIndex;
 import com.springboot.service.impl.EmployeeServiceImpl;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +21,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.*;
@@ -20,11 +30,29 @@ import static org.mockito.Mockito.*;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 @ExtendWith(MockitoExtension.class)
 public class EmployeeServiceTests {
@@ -32,7 +60,25 @@ public class EmployeeServiceTests {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private EmployeeProperties employeeProperties = new EmployeeProperties();
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
 //    private EmployeeService employeeService;
+    @Spy
+    private EmployeeSearchIndex employeeSearchIndex = new EmployeeSearchIndex();
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.EMPLOYEES_CACHE);
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -69,10 +115,7 @@ public class EmployeeServiceTests {
 //        BDDMockito.given(employeeRepository.save(employee))
 //                .willReturn(employee);
 
-        given(employeeRepository.findByEmail(employee.getEmail()))
-                .willReturn(Optional.empty());
-
-        given(employeeRepository.save(employee))
+        given(employeeRepository.saveAndFlush(employee))
                 .willReturn(employee);
 
         System.out.println(employeeRepository);
@@ -85,6 +128,7 @@ public class EmployeeServiceTests {
 
         // then - verify the output
         Assertions.assertThat(savedEmployee).isNotNull();
+        assertThat(employeeService.searchEmployees(employee.getFirstName(), 10)).containsExactly(EmployeeView.of(employee));
     }
 
     // JUnit test for saveEmployee method which throws exception
@@ -92,8 +136,10 @@ public class EmployeeServiceTests {
     @Test
     public void givenExistingEmail_whenSaveEmployee_thenThrowsException(){
         // given - precondition or set up
-        given(employeeRepository.findByEmail(employee.getEmail()))
-                .willReturn(Optional.of(employee));
+        given(employeeRepository.saveAndFlush(employee))
+                .willThrow(new DataIntegrityViolationException("duplicate",
+                        new ConstraintViolationException("Duplicate entry", null,
+                                "employees." + Employee.EMAIL_UNIQUE_CONSTRAINT)));
 
 //        given(employeeRepository.save(employee))
 //                .willReturn(employee);
@@ -107,7 +153,57 @@ public class EmployeeServiceTests {
         });
 
         // then
-       verify(employeeRepository,never()).save(any(Employee.class));
+       verify(employeeRepository,never()).findByEmail(any(String.class));
+       assertThat(meterRegistry.counter("employee.duplicate.email", "operation", "create").count()).isEqualTo(1.0);
+    }
+
+    // JUnit test for saveEmployee method which rethrows other constraint violations
+    @DisplayName("JUnit test for saveEmployee method which rethrows other constraint violations")
+    @Test
+    public void givenOtherConstraintViolation_whenSaveEmployee_thenRethrowsException(){
+        // given - precondition or set up
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("Column cannot be null", null, null));
+        given(employeeRepository.saveAndFlush(employee)).willThrow(violation);
+
+        // when - action or behaviour that we are going to test
+        DataIntegrityViolationException thrown = org.junit.jupiter.api.Assertions.assertThrows(
+                DataIntegrityViolationException.class, () -> employeeService.saveEmployee(employee));
+
+        // then
+        assertThat(thrown).isSameAs(violation);
+        assertThat(meterRegistry.find("employee.duplicate.email").counter()).isNull();
+    }
+
+    // JUnit test for saveEmployees method
+    @DisplayName("JUnit test for saveEmployees method")
+    @Test
+    public void givenEmployeesList_whenSaveEmployees_thenReturnPerItemResults(){
+        // given - precondition or set up
+        Employee duplicate = Employee.builder()
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("ts@email.com")
+                .build();
+        Employee invalid = Employee.builder()
+                .firstName("Bruce")
+                .build();
+
+        given(employeeRepository.findExistingEmails(List.of("nk@email.com", "ts@email.com")))
+                .willReturn(Set.of("ts@email.com"));
+
+        // when - action or behaviour that we are going to test
+        List<EmployeeBatchResult> results = employeeService.saveEmployees(List.of(employee, duplicate, invalid));
+
+        // then - verify the output
+        assertThat(results).extracting(EmployeeBatchResult::getStatus).containsExactly(
+                EmployeeBatchResult.Status.CREATED,
+                EmployeeBatchResult.Status.DUPLICATE,
+                EmployeeBatchResult.Status.INVALID);
+        assertThat(results.get(0).getId()).isEqualTo(employee.getId());
+        verify(employeeRepository, times(1)).saveAll(Set.of(employee));
+        verify(entityManager, times(1)).flush();
+        assertThat(meterRegistry.counter("employee.duplicate.email", "operation", "batch").count()).isEqualTo(1.0);
     }
 
     // JUnit test for getAllEmployees method
@@ -123,10 +219,10 @@ public class EmployeeServiceTests {
                 .email("ts@email.com")
                 .build();
 
-        given(employeeRepository.findAll()).willReturn(List.of(employee,employee1));
+        given(employeeRepository.findAllViews()).willReturn(List.of(EmployeeView.of(employee),EmployeeView.of(employee1)));
 
         // when - action or behaviour that we are going to test
-        List<Employee> employeeList = employeeService.getAllEmployees();
+        List<EmployeeView> employeeList = employeeService.getAllEmployees();
 
         // then - verify the output
         Assertions.assertThat(employeeList).isNotNull();
@@ -146,28 +242,143 @@ public class EmployeeServiceTests {
                 .email("ts@email.com")
                 .build();
 
-        given(employeeRepository.findAll()).willReturn(Collections.emptyList());
+        given(employeeRepository.findAllViews()).willReturn(Collections.emptyList());
 
         // when - action or behaviour that we are going to test
-        List<Employee> employeeList = employeeService.getAllEmployees();
+        List<EmployeeView> employeeList = employeeService.getAllEmployees();
 
         // then - verify the output
         Assertions.assertThat(employeeList).isEmpty();
         Assertions.assertThat(employeeList.size()).isEqualTo(0);
     }
 
+    // JUnit test for getEmployeesAfter method
+    @DisplayName("JUnit test for getEmployeesAfter method")
+    @Test
+    public void givenMoreEmployeesThanPageSize_whenGetEmployeesAfter_thenReturnPageWithNextCursor(){
+        // given - precondition or set up
+        Employee employee1 = Employee.builder()
+                .id(2L)
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("ts@email.com")
+                .build();
+
+        given(employeeRepository.findViewsAfter(0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(EmployeeView.of(employee), EmployeeView.of(employee1)));
+
+        // when - action or behaviour that we are going to test
+        EmployeePage employeePage = employeeService.getEmployeesAfter(0L, 1);
+
+        // then - verify the output
+        assertThat(employeePage.getContent()).containsExactly(EmployeeView.of(employee));
+        assertThat(employeePage.getNextCursor()).isEqualTo(employee.getId());
+    }
+
+    // JUnit test for getEmployeesAfter method
+    @DisplayName("JUnit test for getEmployeesAfter method (last page)")
+    @Test
+    public void givenLastPage_whenGetEmployeesAfter_thenReturnPageWithoutNextCursor(){
+        // given - precondition or set up
+        given(employeeRepository.findViewsAfter(0L, PageRequest.of(0, 11)))
+                .willReturn(List.of(EmployeeView.of(employee)));
+
+        // when - action or behaviour that we are going to test
+        EmployeePage employeePage = employeeService.getEmployeesAfter(0L, 10);
+
+        // then - verify the output
+        assertThat(employeePage.getContent()).containsExactly(EmployeeView.of(employee));
+        assertThat(employeePage.getNextCursor()).isNull();
+    }
+
+    // JUnit test for exportEmployees method
+    @DisplayName("JUnit test for exportEmployees method")
+    @Test
+    public void givenEmployeesStream_whenExportEmployees_thenConsumeEachEmployee(){
+        // given - precondition or set up
+        given(employeeRepository.streamAllViews()).willReturn(Stream.of(EmployeeView.of(employee)));
+        List<EmployeeView> exported = new ArrayList<>();
+
+        // when - action or behaviour that we are going to test
+        employeeService.exportEmployees(exported::add);
+
+        // then - verify the output
+        assertThat(exported).containsExactly(EmployeeView.of(employee));
+    }
+
     // JUnit test for getEmployeeById method
     @DisplayName("JUnit test for getEmployeeById method")
     @Test
     public void givenEmployeeId_whenGetEmployeeById_thenReturnEmployeeObject(){
         // given - precondition or set up
-        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        given(employeeRepository.findViewById(1L)).willReturn(Optional.of(EmployeeView.of(employee)));
 
         // when - action or behaviour that we are going to test
-        Employee savedEmployee = employeeService.getEmployeeById(employee.getId()).get();
+        EmployeeView savedEmployee = employeeService.getEmployeeById(employee.getId()).get();
 
         // then - verify the output
         assertThat(savedEmployee).isNotNull();
+        // one round trip, no entity load behind the projection
+        verify(employeeRepository, times(1)).findViewById(1L);
+        verifyNoMoreInteractions(employeeRepository);
+    }
+
+    // JUnit test for concurrent getEmployeeById calls for one employee
+    @DisplayName("JUnit test for concurrent getEmployeeById calls for one employee")
+    @Test
+    public void givenRunningLookup_whenGetEmployeeByIdConcurrently_thenOneQueryIsShared() throws Exception{
+        // given - precondition or set up
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(employeeRepository.findViewById(1L)).willAnswer(invocation -> {
+            querying.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(EmployeeView.of(employee));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when - action or behaviour that we are going to test
+        List<Future<Optional<EmployeeView>>> lookups = new ArrayList<>();
+        lookups.add(executor.submit(() -> employeeService.getEmployeeById(1L)));
+        assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+        for(int i = 0; i < 3; i++){
+            lookups.add(executor.submit(() -> employeeService.getEmployeeById(1L)));
+        }
+        while(meterRegistry.counter("employee.lookup.coalesced").count() < 3){
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        // then - verify the output
+        for(Future<Optional<EmployeeView>> lookup : lookups){
+            assertThat(lookup.get(5, TimeUnit.SECONDS)).contains(EmployeeView.of(employee));
+        }
+        executor.shutdown();
+        verify(employeeRepository, times(1)).findViewById(1L);
+        verifyNoMoreInteractions(employeeRepository);
+    }
+
+    // JUnit test for getEmployeesByIds method
+    @DisplayName("JUnit test for getEmployeesByIds method")
+    @Test
+    public void givenCachedAndMissingIds_whenGetEmployeesByIds_thenOneQueryAndRequestOrder(){
+        // given - precondition or set up
+        EmployeeView cachedEmployee = new EmployeeView(1L, "Naveen", "Kumar", "nk@email.com", 0L);
+        EmployeeView employee1 = new EmployeeView(2L, "Tony", "Stark", "ts@email.com", 0L);
+        cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).put(1L, cachedEmployee);
+        given(employeeRepository.findViewsByIdIn(List.of(2L, 3L))).willReturn(List.of(employee1));
+
+        // when - action or behaviour that we are going to test
+        List<EmployeeLookupResult> results = employeeService.getEmployeesByIds(List.of(2L, 1L, 3L, 2L));
+
+        // then - verify the output
+        assertThat(results).extracting(EmployeeLookupResult::getId).containsExactly(2L, 1L, 3L, 2L);
+        assertThat(results).extracting(EmployeeLookupResult::getEmployee)
+                .containsExactly(employee1, cachedEmployee, null, employee1);
+        assertThat(results.get(2).getStatus()).isEqualTo(EmployeeLookupResult.Status.NOT_FOUND);
+        verify(employeeRepository, times(1)).findViewsByIdIn(List.of(2L, 3L));
+        verifyNoMoreInteractions(employeeRepository);
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).get(2L, EmployeeView.class)).isEqualTo(employee1);
     }
 
     // JUnit test for updateEmployee method
@@ -187,18 +398,109 @@ public class EmployeeServiceTests {
         assertThat(updatedEmployee.getLastName()).isEqualTo("updatedKumar");
     }
 
+    // JUnit test for patchEmployee method
+    @DisplayName("JUnit test for patchEmployee method")
+    @Test
+    public void givenEmployeeIdAndChanges_whenPatchEmployee_thenReturnTrue(){
+        // given - precondition or set up
+        Employee changes = Employee.builder()
+                .lastName("updatedKumar")
+                .build();
+        given(employeeRepository.patchById(1L, null, null, "updatedKumar", null)).willReturn(1);
+
+        // when - action or behaviour that we are going to test
+        boolean patched = employeeService.patchEmployee(1L, null, changes);
+
+        // then - verify the output
+        assertThat(patched).isTrue();
+        verify(employeeRepository, times(1)).patchById(1L, null, null, "updatedKumar", null);
+        verifyNoMoreInteractions(employeeRepository);
+    }
+
+    // JUnit test for patchEmployee method (negative scenario)
+    @DisplayName("JUnit test for patchEmployee method (negative scenario)")
+    @Test
+    public void givenUnknownEmployeeId_whenPatchEmployee_thenReturnFalse(){
+        // given - precondition or set up
+        Employee changes = Employee.builder()
+                .lastName("updatedKumar")
+                .build();
+        given(employeeRepository.patchById(2L, null, null, "updatedKumar", null)).willReturn(0);
+
+        // when - action or behaviour that we are going to test
+        boolean patched = employeeService.patchEmployee(2L, null, changes);
+
+        // then - verify the output
+        assertThat(patched).isFalse();
+        // an unconditional patch that missed is a 404, no existsById to tell it from a conflict
+        verify(employeeRepository, never()).existsById(anyLong());
+    }
+
+    // JUnit test for patchEmployee method with a stale version
+    @DisplayName("JUnit test for patchEmployee method with a stale version")
+    @Test
+    public void givenStaleVersion_whenPatchEmployee_thenThrowsException(){
+        // given - precondition or set up
+        Employee changes = Employee.builder()
+                .lastName("updatedKumar")
+                .build();
+        given(employeeRepository.patchById(1L, 3L, null, "updatedKumar", null)).willReturn(0);
+        given(employeeRepository.existsById(1L)).willReturn(true);
+
+        // when - action or behaviour that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+                employeeService.patchEmployee(1L, 3L, changes));
+    }
+
     // JUnit test for deleteEmployee method
     @DisplayName("JUnit test for deleteEmployee method")
     @Test
     public void givenEmployeeId_whenDeleteEmployee_thenNothing(){
         // given - precondition or set up
         long employeeId = 1L;
-        willDoNothing().given(employeeRepository).deleteById(employeeId);
+        given(employeeRepository.deleteEmployeeById(employeeId)).willReturn(1);
+
+        // when - action or behaviour that we are going to test
+        boolean deleted = employeeService.deleteEmployee(employeeId);
+
+        // then
+        assertThat(deleted).isTrue();
+        verify(employeeRepository, times(1)).deleteEmployeeById(employeeId);
+        verify(employeeRepository, never()).findById(employeeId);
+        verify(employeeSearchIndex, times(1)).remove(employeeId);
+    }
+
+    // JUnit test for deleteEmployee method (negative scenario)
+    @DisplayName("JUnit test for deleteEmployee method (negative scenario)")
+    @Test
+    public void givenUnknownEmployeeId_whenDeleteEmployee_thenReturnFalse(){
+        // given - precondition or set up
+        given(employeeRepository.deleteEmployeeById(2L)).willReturn(0);
+
+        // when - action or behaviour that we are going to test
+        boolean deleted = employeeService.deleteEmployee(2L);
+
+        // then
+        assertThat(deleted).isFalse();
+    }
+
+    // JUnit test for deleteEmployees method
+    @DisplayName("JUnit test for deleteEmployees method")
+    @Test
+    public void givenEmployeeIds_whenDeleteEmployees_thenDeleteInChunks(){
+        // given - precondition or set up
+        List<Long> employeeIds = new ArrayList<>();
+        for(long id = 1; id <= 1500; id++){
+            employeeIds.add(id);
+        }
+        given(employeeRepository.deleteEmployeesByIdIn(anyList())).willReturn(1000, 400);
 
         // when - action or behaviour that we are going to test
-        employeeService.deleteEmployee(employeeId);
+        int deleted = employeeService.deleteEmployees(employeeIds);
 
         // then
-        verify(employeeRepository, times(1)).deleteById(employeeId);
+        assertThat(deleted).isEqualTo(1400);
+        verify(employeeRepository, times(1)).deleteEmployeesByIdIn(employeeIds.subList(0, 1000));
+        verify(employeeRepository, times(1)).deleteEmployeesByIdIn(employeeIds.subList(1000, 1500));
     }
 }
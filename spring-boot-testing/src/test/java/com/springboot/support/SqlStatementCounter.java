@@ -0,0 +1,57 @@
+package com.springboot.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Counts the statements Hibernate prepares on the current thread, so a test can put a budget on a request
+// or service call. Id-table allocations run on their own connection and are not seen. Enable it with @SpringBootTest(properties = SqlStatementCounter.ENABLED), call reset()
+// right before the action and assertStatements(...) after it. A JDBC batch is prepared once and counts once.
+public class SqlStatementCounter implements StatementInspector {
+
+    public static final String ENABLED =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.springboot.support.SqlStatementCounter";
+
+    private static final ThreadLocal<List<String>> statements = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        statements.get().add(sql);
+        return sql;
+    }
+
+    public static void reset() {
+        statements.get().clear();
+    }
+
+    public static Counts current() {
+        long select = 0, insert = 0, update = 0, delete = 0;
+        for(String sql : statements.get()){
+            String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+            if(statement.startsWith("select") || statement.startsWith("with")){
+                select++;
+            } else if(statement.startsWith("insert")){
+                insert++;
+            } else if(statement.startsWith("update")){
+                update++;
+            } else if(statement.startsWith("delete")){
+                delete++;
+            }
+        }
+        return new Counts(select, insert, update, delete);
+    }
+
+    // the failure message lists the statements that were actually issued
+    public static void assertStatements(long select, long insert, long update, long delete) {
+        assertThat(current())
+                .as("SQL statements since reset: %s", statements.get())
+                .isEqualTo(new Counts(select, insert, update, delete));
+    }
+
+    public record Counts(long select, long insert, long update, long delete) {
+    }
+}